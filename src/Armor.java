@@ -3,14 +3,21 @@
  */
 
 public class Armor extends Item implements Buyable {
-    private int damageReduction;
 
     public Armor(String name, int cost, int levelRequirement, int damageReduction) {
-        super(name, cost, levelRequirement, "Armor");
-        this.damageReduction = damageReduction;
+        this(ItemDefinition.armor(name, cost, levelRequirement, damageReduction));
     }
 
-    public int getDamageReduction() { return damageReduction; }
+    public Armor(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public Armor newInstance() {
+        return new Armor(definition);
+    }
+
+    public int getDamageReduction() { return definition.getDamageReduction(); }
 
 
 }
\ No newline at end of file
@@ -5,16 +5,35 @@
  *
  */
 
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Random;
 import java.util.stream.Collectors;
 
 public class Battle {
+    // The choices a policy has on an auto-resolved turn, matching the interactive menu
+    private static final List<String> AUTO_ACTIONS = Arrays.asList("Attack", "Cast Spell", "Use Potion");
+    private static final PrintStream SILENT = new PrintStream(new OutputStream() {
+        @Override
+        public void write(int b) {
+            // Discard battle output
+        }
+    });
+
     private List<Hero> heroes;
     private List<Monster> monsters;
     private Random random = new Random();
 
+    // Auto-resolve bookkeeping: living units are counted as they fall instead of rescanned every round
+    private int heroesAlive;
+    private int monstersAlive;
+    private final List<Monster> targets = new ArrayList<>();  // Living monsters, for the policy
+    private final List<Monster> burnedOut = new ArrayList<>();  // Monsters killed by burns this round
+
     public Battle(List<Hero> heroes, List<Monster> monsters) {
         this.heroes = heroes;
         this.monsters = monsters;
@@ -47,6 +66,13 @@ public class Battle {
                     break;  // Exit the loop if no monsters are left alive
                 }
             }
+            if (!heroesTurn) {
+                burnedOut.clear();
+                StatusEffects.getInstance().advanceRound(burnedOut);  // Both sides have moved: expire timed effects, let burns tick
+                for (Monster monster : burnedOut) {
+                    System.out.println(monster.getName() + " has burned to death!");
+                }
+            }
             heroesTurn = !heroesTurn;  // Alternate turns
 
             printBattleStatus();  // Display status after each round
@@ -62,10 +88,156 @@ public class Battle {
         return heroesWon;
     }
 
+    /**
+     * Fights the battle without asking for input, with a policy choosing every hero's action, and shows only a
+     * summary once it is over. Turn order, targeting by monsters and rewards follow startBattle; the game's
+     * output and events are suppressed while the battle runs.
+     * @param policy The policy that plays the heroes
+     * @return true if the heroes won
+     */
+    public boolean autoResolve(HeroPolicy policy) {
+        GameEventBus events = GameEventBus.getInstance();
+        GameEventListener[] listeners = events.getListeners();
+        PrintStream console = System.out;
+        events.setListeners();
+        System.setOut(SILENT);
+
+        long start = System.nanoTime();
+        int rounds = 0;
+        boolean heroesWon;
+        try {
+            heroesAlive = 0;
+            for (Hero hero : heroes) {
+                if (hero.isAlive()) {
+                    heroesAlive++;
+                }
+            }
+            targets.clear();
+            for (Monster monster : monsters) {
+                if (monster.isAlive()) {
+                    targets.add(monster);
+                }
+            }
+            monstersAlive = targets.size();
+
+            boolean heroesTurn = random.nextBoolean();  // Randomly determine initial turn
+            while (heroesAlive > 0 && monstersAlive > 0) {
+                rounds++;
+                if (heroesTurn) {
+                    for (Hero hero : heroes) {
+                        if (hero.isAlive()) {
+                            autoHeroTurn(hero, policy);
+                            hero.restorePerTurn();
+                        }
+                    }
+                } else {
+                    for (Monster monster : monsters) {
+                        if (monster.isAlive() && heroesAlive > 0) {
+                            Hero target = randomLivingHero();
+                            monster.attack(target);
+                            if (!target.isAlive()) {
+                                heroesAlive--;
+                            }
+                        }
+                    }
+                    burnedOut.clear();
+                    StatusEffects.getInstance().advanceRound(burnedOut);  // Both sides have moved: expire timed effects, let burns tick
+                    for (Monster monster : burnedOut) {
+                        noteIfDefeated(monster);
+                    }
+                }
+                heroesTurn = !heroesTurn;
+            }
+
+            heroesWon = heroesAlive > 0;
+            if (heroesWon) {
+                rewardHeroes();
+            }
+        } finally {
+            System.setOut(console);
+            events.setListeners(listeners);
+        }
+        long micros = (System.nanoTime() - start) / 1000;
+
+        System.out.println("\n--- Battle Summary ---");
+        System.out.println((heroesWon ? "Heroes won the battle" : "Monsters defeated the heroes") + " in " + rounds
+                + " rounds (auto-resolved in " + micros + " microseconds).");
+        for (Hero hero : heroes) {
+            System.out.println(hero.getName() + " - HP: " + hero.getCurrentHealth() + "/" + hero.getHealthPoints()
+                    + ", Mana: " + hero.getCurrentMana() + "/" + hero.getManaPoints() + ", Level: " + hero.getLevel());
+        }
+        if (heroesWon) {
+            System.out.println("Each surviving hero gained " + experienceReward() + " experience and "
+                    + goldReward() / heroes.size() + " gold.");
+        }
+        System.out.println("----------------------");
+        return heroesWon;
+    }
+
+    // One hero's auto-resolved turn; an action the hero cannot carry out falls back to an attack
+    private void autoHeroTurn(Hero hero, HeroPolicy policy) {
+        if (monstersAlive == 0) {
+            return;
+        }
+        String action = policy.chooseAction(hero, AUTO_ACTIONS, targets);
+        if ("Use Potion".equals(action)) {
+            Potion potion = policy.choosePotion(hero, hero.getInventory().getPotions());
+            if (potion != null) {
+                potion.use(hero);
+                return;
+            }
+        }
+
+        Monster target = policy.chooseTarget(hero, targets);
+        if (target == null) {
+            return;  // The policy holds its attack
+        }
+        if ("Cast Spell".equals(action)) {
+            List<Spell> castable = new ArrayList<>();
+            for (Spell spell : hero.getInventory().getSpells()) {
+                if (spell.getManaCost() <= hero.getCurrentMana()) {
+                    castable.add(spell);
+                }
+            }
+            Spell spell = castable.isEmpty() ? null : policy.chooseSpell(hero, castable, target);
+            if (spell != null) {
+                target.takeDamage(spellDamage(hero, spell));
+                spell.use(hero);
+                target.applySpellEffect(spell);
+                noteIfDefeated(target);
+                return;
+            }
+        }
+        hero.attack(target);
+        noteIfDefeated(target);
+    }
+
+    // Counts a monster out once it has fallen
+    private void noteIfDefeated(Monster monster) {
+        if (!monster.isAlive() && targets.remove(monster)) {
+            monstersAlive--;
+        }
+    }
+
+    // Picks a living hero uniformly at random without building a list
+    private Hero randomLivingHero() {
+        int pick = random.nextInt(heroesAlive);
+        for (Hero hero : heroes) {
+            if (hero.isAlive() && pick-- == 0) {
+                return hero;
+            }
+        }
+        return null;
+    }
+
     private void heroTurn(Hero hero) {
         System.out.println("\n" + hero.getName() + "'s turn! Choose an action:");
-        System.out.println("1. Attack\n2. Cast Spell\n3. Use Potion\n4. Equip Item");
+        System.out.println("1. Attack\n2. Cast Spell\n3. Use Potion\n4. Equip Item\n5. Predict Outcome");
         int choice = InputHandler.getInstance().getIntInput("Enter your choice: ");
+        while (choice == 5) {
+            predictOutcome();  // Does not use up the turn
+            choice = InputHandler.getInstance().getIntInput("Enter your choice: ");
+        }
 
         switch (choice) {
             case 1:
@@ -85,13 +257,35 @@ public class Battle {
         }
     }
 
+    /**
+     * Shows the predicted outcome of the battle from here on, assuming every hero keeps attacking the first
+     * living monster.
+     */
+    private void predictOutcome() {
+        long start = System.nanoTime();
+        BattlePredictor.Prediction prediction = BattlePredictor.getInstance().predictHeroesTurn(heroes, monsters);
+        long micros = (System.nanoTime() - start) / 1000;
+
+        System.out.println("\n--- Predicted Outcome ---");
+        System.out.println(String.format("Win chance: %.1f%% | Expected rounds left: %.1f",
+                prediction.getWinProbability() * 100, prediction.getExpectedRounds()));
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
+            System.out.println(String.format("%s - expected HP left: %.0f/%d", hero.getName(),
+                    prediction.getExpectedHealth(i), hero.getHealthPoints()));
+        }
+        System.out.println("(Assumes every hero attacks the first monster standing"
+                + (prediction.isExact() ? "" : "; health is approximated") + ". Computed in " + micros + " microseconds.)");
+        System.out.println("-------------------------");
+    }
+
     private void attack(Hero hero) {
         Monster target = selectTargetMonster();
         hero.attack(target);
     }
 
     private void castSpell(Hero hero) {
-        List<Item> spells = hero.getInventory().getItems().stream().filter(item -> item instanceof Spell).collect(Collectors.toList());
+        List<Spell> spells = hero.getInventory().getSpells();
         if (spells.isEmpty()) {
             System.out.println("No spells in inventory.");
             return;
@@ -99,26 +293,26 @@ public class Battle {
 
         System.out.println("Select a spell:");
         for (int i = 0; i < spells.size(); i++) {
-            System.out.println((i + 1) + ". " + spells.get(i).getName());
+            System.out.println((i + 1) + ". " + spells.get(i).getName() + " x" + hero.getInventory().getStackCount(spells.get(i).getName()));
         }
 
         int spellIndex = InputHandler.getInstance().getIntInput("Enter spell number: ") - 1;
         if (spellIndex >= 0 && spellIndex < spells.size()) {
-            Spell spell = (Spell) spells.get(spellIndex);
+            Spell spell = spells.get(spellIndex);
             if (hero.getCurrentMana() >= spell.getManaCost()) {
                 Monster target = selectTargetMonster();
                 if (target != null) {
-                    double damage = spell.getDamage() + (hero.getCurrentDexterity() / 10000.0) * spell.getDamage();
-                    target.takeDamage((int) Math.ceil(damage));
+                    int damage = spellDamage(hero, spell);
+                    target.takeDamage(damage);
                     spell.use(hero);
-                    System.out.println(hero.getName() + " cast " + spell.getName() + " on " + target.getName() + " for " + (int) Math.ceil(damage) + " damage.");
+                    System.out.println(hero.getName() + " cast " + spell.getName() + " on " + target.getName() + " for " + damage + " damage.");
                     System.out.println(target.getName() + "'s remaining HP: " + target.getHealth());
 
                     if (!target.isAlive()) {
                         System.out.println(target.getName() + " has been defeated!");
                     }
 
-                    target.applySpellEffect(spell.getSpellType());  // Apply spell effect
+                    target.applySpellEffect(spell);  // Apply spell effect
                 }
             } else {
                 System.out.println("Not enough mana.");
@@ -128,8 +322,14 @@ public class Battle {
         }
     }
 
+    // Spell damage grows by 0.01% per point of the caster's dexterity
+    private int spellDamage(Hero hero, Spell spell) {
+        double damage = spell.getDamage() + (hero.getCurrentDexterity() / 10000.0) * spell.getDamage();
+        return (int) Math.ceil(damage);
+    }
+
     private void usePotion(Hero hero) {
-        List<Item> potions = hero.getInventory().getItems().stream().filter(item -> item instanceof Potion).collect(Collectors.toList());
+        List<Potion> potions = hero.getInventory().getPotions();
         if (potions.isEmpty()) {
             System.out.println("No potions in inventory.");
             return;
@@ -137,12 +337,12 @@ public class Battle {
 
         System.out.println("Select a potion:");
         for (int i = 0; i < potions.size(); i++) {
-            System.out.println((i + 1) + ". " + potions.get(i).getName());
+            System.out.println((i + 1) + ". " + potions.get(i).getName() + " x" + hero.getInventory().getStackCount(potions.get(i).getName()));
         }
 
         int potionIndex = InputHandler.getInstance().getIntInput("Enter potion number: ") - 1;
         if (potionIndex >= 0 && potionIndex < potions.size()) {
-            Potion potion = (Potion) potions.get(potionIndex);
+            Potion potion = potions.get(potionIndex);
             potion.use(hero);
 //            hero.getInventory().useItem(potion.getName());
             System.out.println(hero.getName() + " used " + potion.getName() + ".");
@@ -176,8 +376,8 @@ public class Battle {
     }
 
     private void rewardHeroes() {
-        int goldReward = monsters.stream().mapToInt(Monster::getLevel).sum() * 100;
-        int experienceReward = monsters.stream().mapToInt(Monster::getLevel).sum();
+        int goldReward = goldReward();
+        int experienceReward = experienceReward();
 
         for (Hero hero : heroes) {
             if (hero.isAlive()) {
@@ -194,6 +394,14 @@ public class Battle {
         }
     }
 
+    private int goldReward() {
+        return monsters.stream().mapToInt(Monster::getLevel).sum() * 100;
+    }
+
+    private int experienceReward() {
+        return monsters.stream().mapToInt(Monster::getLevel).sum();
+    }
+
     private void printBattleStatus() {
         System.out.println("\n--- Battle Status ---");
         System.out.println("Heroes:");
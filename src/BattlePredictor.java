@@ -0,0 +1,566 @@
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the outcome of a Monsters and Heroes battle analytically instead of by playing it out: the chance the
+ * heroes win, how many rounds it is expected to last and how much health each hero is expected to keep.
+ *
+ * The battle is modelled the way Battle runs it, with every hero making a basic attack on the first living
+ * monster and then regenerating, and every monster attacking a living hero picked at random. The only
+ * randomness is then the dodge rolls and the monsters' choice of target, so the battle is a Markov chain over
+ * the units' health. The solver pushes the probability of every health combination forward one action at a
+ * time, collecting it as the battle ends, until almost none is left. Health is counted in steps that keep the
+ * state table within a fixed budget; damage that is not a whole number of steps is split between the two
+ * nearest steps so expected damage is preserved, and a step of 1 makes the answer exact.
+ *
+ * Answers are memoized per matchup, so asking again about the same units and stats is a map lookup.
+ * Spells, potions and timed effects are not modelled.
+ */
+public class BattlePredictor {
+    private static final int STATE_BUDGET = 1 << 15;   // Health combinations the solver may track
+    private static final int MONSTER_LEVELS = 32;      // Health steps per monster at most
+    private static final int MIN_HERO_LEVELS = 4;
+    private static final int MAX_ROUNDS = 500;         // Battles still going after this many rounds are unresolved
+    private static final double EPSILON = 1e-6;        // Probability left over that counts as resolved
+    private static final double NEGLIGIBLE = 1e-12;    // States less likely than this are dropped
+    private static final int CACHE_SIZE = 256;
+
+    private static BattlePredictor instance;
+
+    // Most recently used matchups last
+    private final Map<Matchup, Prediction> cache = new LinkedHashMap<Matchup, Prediction>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Matchup, Prediction> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private BattlePredictor() {
+    }
+
+    /**
+     * Gets the singleton instance of BattlePredictor
+     * @return The BattlePredictor instance
+     */
+    public static BattlePredictor getInstance() {
+        if (instance == null) {
+            instance = new BattlePredictor();
+        }
+        return instance;
+    }
+
+    /**
+     * The outcome of a battle: the heroes' chance of winning, the expected length and the health the heroes
+     * are expected to end with.
+     */
+    public static class Prediction {
+        private final double winProbability;
+        private final double lossProbability;
+        private final double expectedRounds;
+        private final double[] expectedHealth;
+        private final boolean exact;
+
+        Prediction(double winProbability, double lossProbability, double expectedRounds, double[] expectedHealth,
+                   boolean exact) {
+            this.winProbability = winProbability;
+            this.lossProbability = lossProbability;
+            this.expectedRounds = expectedRounds;
+            this.expectedHealth = expectedHealth;
+            this.exact = exact;
+        }
+
+        public double getWinProbability() { return winProbability; }
+        public double getLossProbability() { return lossProbability; }
+        // Battles the solver gave up on; they never end if neither side can hurt the other
+        public double getUnresolvedProbability() { return Math.max(0, 1 - winProbability - lossProbability); }
+        public double getExpectedRounds() { return expectedRounds; }  // Each side's turn is one round, as in Battle
+        public boolean isExact() { return exact; }  // False if health had to be counted in steps larger than 1
+
+        /**
+         * Gets the health a hero is expected to have when the battle ends, counting a fallen hero as 0.
+         * @param hero The hero's position in the list the prediction was made for
+         * @return The expected health
+         */
+        public double getExpectedHealth(int hero) { return expectedHealth[hero]; }
+
+        public double getExpectedTotalHealth() {
+            double total = 0;
+            for (double health : expectedHealth) {
+                total += health;
+            }
+            return total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("win %.1f%%, lose %.1f%%, about %.1f rounds, %.0f total hero HP left%s",
+                    winProbability * 100, lossProbability * 100, expectedRounds, getExpectedTotalHealth(),
+                    exact ? "" : " (approximate)");
+        }
+    }
+
+    /**
+     * Predicts a battle that is about to start, with a coin flip deciding which side moves first as in Battle.
+     * @param heroes The heroes, in turn order
+     * @param monsters The monsters, in the order the heroes will target them
+     * @return The prediction
+     */
+    public Prediction predict(List<Hero> heroes, List<Monster> monsters) {
+        return predict(heroes, monsters, false);
+    }
+
+    /**
+     * Predicts a battle from its current state, as if the heroes' side were about to move.
+     * @param heroes The heroes, in turn order
+     * @param monsters The monsters, in the order the heroes will target them
+     * @return The prediction
+     */
+    public Prediction predictHeroesTurn(List<Hero> heroes, List<Monster> monsters) {
+        return predict(heroes, monsters, true);
+    }
+
+    public int getCachedCount() {
+        return cache.size();
+    }
+
+    public void clearCache() {
+        cache.clear();
+    }
+
+    private Prediction predict(List<Hero> heroes, List<Monster> monsters, boolean heroesFirst) {
+        Matchup matchup = new Matchup(heroes, monsters, heroesFirst);
+        Prediction prediction = cache.get(matchup);
+        if (prediction == null) {
+            prediction = new Solver(matchup).solve();
+            cache.put(matchup, prediction);
+        }
+        return prediction;
+    }
+
+    /**
+     * Everything about a battle that the outcome depends on, flattened into an int array so it can key the
+     * cache. Hero fields are health, max health, attack damage, agility, armor and regeneration; monster
+     * fields are health, dodge chance in percent and the damage dealt to each hero.
+     */
+    private static final class Matchup {
+        private static final int HERO_FIELDS = 6;
+
+        final int heroCount;
+        final int monsterCount;
+        final boolean heroesFirst;
+        final int[] values;
+        private final int hash;
+
+        Matchup(List<Hero> heroes, List<Monster> monsters, boolean heroesFirst) {
+            this.heroCount = heroes.size();
+            this.monsterCount = monsters.size();
+            this.heroesFirst = heroesFirst;
+            this.values = new int[heroCount * HERO_FIELDS + monsterCount * (2 + heroCount)];
+            int i = 0;
+            for (Hero hero : heroes) {
+                values[i++] = hero.getCurrentHealth();
+                values[i++] = hero.getHealthPoints();
+                values[i++] = hero.getAttackDamage();
+                values[i++] = hero.getCurrentAgility();
+                values[i++] = hero.getInventory().useArmor();
+                values[i++] = (int) (hero.getHealthPoints() * 0.1);  // As in Hero.restorePerTurn
+            }
+            for (Monster monster : monsters) {
+                values[i++] = monster.getHealth();
+                values[i++] = (int) Math.round(monster.getDodgeChance() * 100);
+                for (Hero hero : heroes) {
+                    values[i++] = monster.getAttackDamage(hero);
+                }
+            }
+            this.hash = 31 * Arrays.hashCode(values) + (heroesFirst ? 1 : 0);
+        }
+
+        int heroHealth(int hero) { return values[hero * HERO_FIELDS]; }
+        int heroMaxHealth(int hero) { return values[hero * HERO_FIELDS + 1]; }
+        int heroDamage(int hero) { return values[hero * HERO_FIELDS + 2]; }
+        double heroDodge(int hero) { return Math.min(1, values[hero * HERO_FIELDS + 3] * 0.002); }  // As in Hero.getDodgeChance
+        int heroRegen(int hero) { return values[hero * HERO_FIELDS + 5]; }
+
+        private int monsterBase(int monster) { return heroCount * HERO_FIELDS + monster * (2 + heroCount); }
+        int monsterHealth(int monster) { return values[monsterBase(monster)]; }
+        double monsterDodge(int monster) { return Math.min(1, values[monsterBase(monster) + 1] * 0.01); }
+        int monsterDamage(int monster, int hero) { return values[monsterBase(monster) + 2 + hero]; }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            }
+            if (!(other instanceof Matchup)) {
+                return false;
+            }
+            Matchup that = (Matchup) other;
+            return heroCount == that.heroCount && heroesFirst == that.heroesFirst && Arrays.equals(values, that.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * One solve of one matchup. A state is the health step of every hero and the focus monster with its health
+     * step; monsters behind the focus still have their starting health and monsters before it are dead, since
+     * heroes always attack the first living monster. States are numbered heroIndex * monsterStates +
+     * monsterState, where heroIndex mixes the heroes' health steps with per-hero strides and the last monster
+     * state means every monster is dead.
+     */
+    private static final class Solver {
+        private final Matchup matchup;
+        private final int heroCount;
+        private final int monsterCount;
+
+        // Only living units take part; fallen heroes keep 0 health in the results
+        private final int[] heroOf;       // Model hero -> position in the matchup
+        private final int[] monsterOf;    // Model monster -> position in the matchup
+        private final int[] heroTop;      // Highest health step of each hero
+        private final int[] heroStep;
+        private final int[] heroUnit;     // State number distance between adjacent health steps of a hero
+        private final int[] monsterTop;
+        private final int[] monsterStep;
+        private final int[] monsterOffset;
+        private final int monsterStates;
+        private final int deadMonsters;   // The monster state in which every monster is dead
+        private final int[] focusOf;      // Monster state -> focus monster
+        private final int[] stepOf;       // Monster state -> focus monster's health step
+        private final int states;
+        private final int[] monsterStateOf;  // State -> monster state
+        private final int[][] heroStepOf;    // Hero, state -> the hero's health step
+        private final boolean exact;
+
+        Solver(Matchup matchup) {
+            this.matchup = matchup;
+
+            int living = 0;
+            for (int h = 0; h < matchup.heroCount; h++) {
+                if (matchup.heroHealth(h) > 0) {
+                    living++;
+                }
+            }
+            heroOf = new int[living];
+            for (int h = 0, i = 0; h < matchup.heroCount; h++) {
+                if (matchup.heroHealth(h) > 0) {
+                    heroOf[i++] = h;
+                }
+            }
+            heroCount = living;
+
+            living = 0;
+            for (int m = 0; m < matchup.monsterCount; m++) {
+                if (matchup.monsterHealth(m) > 0) {
+                    living++;
+                }
+            }
+            monsterOf = new int[living];
+            for (int m = 0, i = 0; m < matchup.monsterCount; m++) {
+                if (matchup.monsterHealth(m) > 0) {
+                    monsterOf[i++] = m;
+                }
+            }
+            monsterCount = living;
+
+            // Small battles fit the budget with every point of health tracked
+            long exactStates = 1;
+            for (int m = 0; m < monsterCount; m++) {
+                exactStates += matchup.monsterHealth(monsterOf[m]);
+            }
+            for (int h = 0; h < heroCount; h++) {
+                exactStates *= Math.max(1, matchup.heroMaxHealth(heroOf[h])) + 1;
+            }
+            boolean fitsExactly = exactStates <= STATE_BUDGET;
+
+            // Monsters never heal, so their starting health is their top step
+            boolean exactSoFar = true;
+            monsterTop = new int[monsterCount];
+            monsterOffset = new int[monsterCount + 1];
+            monsterStep = new int[monsterCount];
+            for (int m = 0; m < monsterCount; m++) {
+                int health = matchup.monsterHealth(monsterOf[m]);
+                monsterStep[m] = fitsExactly ? 1 : ceilDiv(health, MONSTER_LEVELS - 1);
+                monsterTop[m] = ceilDiv(health, monsterStep[m]);
+                exactSoFar &= monsterStep[m] == 1;
+                monsterOffset[m + 1] = monsterOffset[m] + monsterTop[m];
+            }
+            monsterStates = monsterOffset[monsterCount] + 1;
+            deadMonsters = monsterStates - 1;
+            focusOf = new int[monsterStates];
+            stepOf = new int[monsterStates];
+            for (int m = 0; m < monsterCount; m++) {
+                for (int step = 1; step <= monsterTop[m]; step++) {
+                    focusOf[monsterOffset[m] + step - 1] = m;
+                    stepOf[monsterOffset[m] + step - 1] = step;
+                }
+            }
+            focusOf[deadMonsters] = monsterCount;
+
+            // Heroes share what is left of the budget evenly
+            int levels = heroCount == 0 ? 1
+                    : (int) Math.floor(Math.pow((double) STATE_BUDGET / monsterStates, 1.0 / heroCount));
+            levels = Math.max(levels, MIN_HERO_LEVELS);
+            heroTop = new int[heroCount];
+            heroStep = new int[heroCount];
+            heroUnit = new int[heroCount];
+            int stride = 1;
+            for (int h = 0; h < heroCount; h++) {
+                int maxHealth = Math.max(1, matchup.heroMaxHealth(heroOf[h]));
+                heroStep[h] = ceilDiv(maxHealth, levels - 1);
+                heroTop[h] = ceilDiv(maxHealth, heroStep[h]);
+                exactSoFar &= heroStep[h] == 1;
+                heroUnit[h] = stride * monsterStates;
+                stride *= heroTop[h] + 1;
+            }
+            this.states = stride * monsterStates;
+            this.exact = exactSoFar;
+
+            // Decoded once so the solve loops never divide
+            monsterStateOf = new int[states];
+            heroStepOf = new int[heroCount][states];
+            for (int s = 0; s < states; s++) {
+                monsterStateOf[s] = s % monsterStates;
+                for (int h = 0; h < heroCount; h++) {
+                    heroStepOf[h][s] = (s / heroUnit[h]) % (heroTop[h] + 1);
+                }
+            }
+        }
+
+        Prediction solve() {
+            double[] expectedHealth = new double[matchup.heroCount];
+            if (heroCount == 0 || monsterCount == 0) {
+                // Nothing to fight over: whichever side is still standing has won
+                boolean won = monsterCount == 0 && heroCount > 0;
+                for (int h = 0; h < heroCount; h++) {
+                    expectedHealth[heroOf[h]] = matchup.heroHealth(heroOf[h]);
+                }
+                return new Prediction(won ? 1 : 0, won ? 0 : 1, 0, expectedHealth, true);
+            }
+
+            // Heroes start at their current health, split between the two nearest steps
+            Distribution heroesToMove = new Distribution(states);
+            Distribution monstersToMove = new Distribution(states);
+            Distribution scratch = new Distribution(states);
+            spreadStart(heroesToMove, 0, 0, matchup.heroesFirst ? 1 : 0.5);
+            if (!matchup.heroesFirst) {
+                spreadStart(monstersToMove, 0, 0, 0.5);
+            }
+
+            double win = 0;
+            double loss = 0;
+            double rounds = 0;
+            double remaining = 1;
+            for (int round = 1; round <= MAX_ROUNDS && remaining > EPSILON; round++) {
+                // Each distribution takes one side's turn; the heroes' result is then the monsters' to move and back
+                for (int h = 0; h < heroCount; h++) {
+                    scratch.clear();
+                    heroAction(heroesToMove, scratch, h);
+                    Distribution swap = heroesToMove;
+                    heroesToMove = scratch;
+                    scratch = swap;
+                }
+                for (int m = 0; m < monsterCount; m++) {
+                    scratch.clear();
+                    monsterAction(monstersToMove, scratch, m);
+                    Distribution swap = monstersToMove;
+                    monstersToMove = scratch;
+                    scratch = swap;
+                }
+                Distribution swap = heroesToMove;
+                heroesToMove = monstersToMove;
+                monstersToMove = swap;
+
+                // Collect the battles that just ended
+                remaining = 0;
+                for (int side = 0; side < 2; side++) {
+                    Distribution distribution = side == 0 ? heroesToMove : monstersToMove;
+                    int kept = 0;
+                    for (int i = 0; i < distribution.count; i++) {
+                        int s = distribution.active[i];
+                        double p = distribution.probability[s];
+                        if (monsterStateOf[s] == deadMonsters) {
+                            win += p;
+                            rounds += p * round;
+                            for (int h = 0; h < heroCount; h++) {
+                                expectedHealth[heroOf[h]] += p * heroHealthAt(h, heroStepOf[h][s]);
+                            }
+                            distribution.probability[s] = 0;
+                        } else if (s < monsterStates) {
+                            loss += p;
+                            rounds += p * round;
+                            distribution.probability[s] = 0;
+                        } else if (p < NEGLIGIBLE) {
+                            distribution.probability[s] = 0;  // Left unresolved
+                        } else {
+                            remaining += p;
+                            distribution.active[kept++] = s;
+                        }
+                    }
+                    distribution.count = kept;
+                }
+            }
+            return new Prediction(win, loss, rounds, expectedHealth, exact);
+        }
+
+        // Hero h attacks the focus monster if there is one, then regenerates
+        private void heroAction(Distribution from, Distribution to, int h) {
+            int damage = matchup.heroDamage(heroOf[h]);
+            for (int i = 0; i < from.count; i++) {
+                int s = from.active[i];
+                double p = from.probability[s];
+                if (heroStepOf[h][s] == 0) {
+                    to.add(s, p);  // Fallen heroes do not act
+                    continue;
+                }
+                int monsterState = monsterStateOf[s];
+                if (monsterState == deadMonsters) {
+                    regenerate(to, s, h, p);
+                    continue;
+                }
+                int focus = focusOf[monsterState];
+                double hit = 1 - matchup.monsterDodge(monsterOf[focus]);
+                regenerate(to, s, h, p * (1 - hit));
+                if (hit > 0) {
+                    int whole = damage / monsterStep[focus];
+                    double part = (double) (damage % monsterStep[focus]) / monsterStep[focus];
+                    int base = s - monsterState;
+                    int step = stepOf[monsterState];
+                    regenerate(to, base + damagedMonster(focus, step - whole), h, p * hit * (1 - part));
+                    regenerate(to, base + damagedMonster(focus, step - whole - 1), h, p * hit * part);
+                }
+            }
+        }
+
+        // The monster state after the focus monster drops to a health step, moving on when it dies
+        private int damagedMonster(int focus, int step) {
+            if (step > 0) {
+                return monsterOffset[focus] + step - 1;
+            }
+            return focus + 1 < monsterCount ? monsterOffset[focus + 1] + monsterTop[focus + 1] - 1 : deadMonsters;
+        }
+
+        // Adds a hero's end-of-turn regeneration, which Hero.increaseHealth skips at full health
+        private void regenerate(Distribution to, int s, int h, double p) {
+            if (p == 0) {
+                return;
+            }
+            int step = heroStepOf[h][s];
+            if (step == heroTop[h]) {
+                to.add(s, p);
+                return;
+            }
+            int regen = matchup.heroRegen(heroOf[h]);
+            int whole = regen / heroStep[h];
+            double part = (double) (regen % heroStep[h]) / heroStep[h];
+            int raised = Math.min(step + whole, heroTop[h]);
+            to.add(s + (raised - step) * heroUnit[h], p * (1 - part));
+            raised = Math.min(step + whole + 1, heroTop[h]);
+            to.add(s + (raised - step) * heroUnit[h], p * part);
+        }
+
+        // Monster m, if alive, attacks a living hero chosen uniformly at random
+        private void monsterAction(Distribution from, Distribution to, int m) {
+            int monster = monsterOf[m];
+            int[] steps = new int[heroCount];
+            for (int i = 0; i < from.count; i++) {
+                int s = from.active[i];
+                double p = from.probability[s];
+                if (focusOf[monsterStateOf[s]] > m) {
+                    to.add(s, p);  // Already dead
+                    continue;
+                }
+                int alive = 0;
+                for (int h = 0; h < heroCount; h++) {
+                    steps[h] = heroStepOf[h][s];
+                    if (steps[h] > 0) {
+                        alive++;
+                    }
+                }
+                if (alive == 0) {
+                    to.add(s, p);
+                    continue;
+                }
+                double pick = p / alive;
+                for (int h = 0; h < heroCount; h++) {
+                    if (steps[h] == 0) {
+                        continue;
+                    }
+                    double dodge = matchup.heroDodge(heroOf[h]);
+                    to.add(s, pick * dodge);
+                    int damage = matchup.monsterDamage(monster, heroOf[h]);
+                    int whole = damage / heroStep[h];
+                    double part = (double) (damage % heroStep[h]) / heroStep[h];
+                    int lowered = Math.max(steps[h] - whole, 0);
+                    to.add(s + (lowered - steps[h]) * heroUnit[h], pick * (1 - dodge) * (1 - part));
+                    lowered = Math.max(steps[h] - whole - 1, 0);
+                    to.add(s + (lowered - steps[h]) * heroUnit[h], pick * (1 - dodge) * part);
+                }
+            }
+        }
+
+        // Places the starting probability, splitting each hero's current health between its two nearest steps
+        private void spreadStart(Distribution to, int h, int s, double p) {
+            if (h == heroCount) {
+                to.add(s + monsterOffset[0] + monsterTop[0] - 1, p);
+                return;
+            }
+            int health = Math.min(matchup.heroHealth(heroOf[h]), matchup.heroMaxHealth(heroOf[h]));
+            int low = health / heroStep[h];
+            double part = (double) (health % heroStep[h]) / heroStep[h];
+            // A living hero never starts on the dead step
+            if (low == 0) {
+                low = 1;
+                part = 0;
+            }
+            spreadStart(to, h + 1, s + low * heroUnit[h], p * (1 - part));
+            if (part > 0) {
+                spreadStart(to, h + 1, s + Math.min(low + 1, heroTop[h]) * heroUnit[h], p * part);
+            }
+        }
+
+        private double heroHealthAt(int h, int step) {
+            return Math.min(step * heroStep[h], matchup.heroMaxHealth(heroOf[h]));
+        }
+
+        private static int ceilDiv(int value, int divisor) {
+            return Math.max(1, (value + divisor - 1) / divisor);
+        }
+    }
+
+    /**
+     * Probabilities over the states of a solve, with the states that hold any probability listed so that a
+     * step only visits the states the battle can actually be in.
+     */
+    private static final class Distribution {
+        final double[] probability;
+        final int[] active;
+        int count;
+
+        Distribution(int states) {
+            probability = new double[states];
+            active = new int[states];
+        }
+
+        void add(int state, double p) {
+            if (p == 0) {
+                return;
+            }
+            if (probability[state] == 0) {
+                active[count++] = state;
+            }
+            probability[state] += p;
+        }
+
+        void clear() {
+            for (int i = 0; i < count; i++) {
+                probability[active[i]] = 0;
+            }
+            count = 0;
+        }
+    }
+}
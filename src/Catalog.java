@@ -0,0 +1,187 @@
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An immutable snapshot of all game data tables, one per DataFile.
+ * The catalog comes from the precompiled data pack when it is present and up to date, otherwise from
+ * the text files. Factories read their rows from here instead of opening files.
+ *
+ * Text-backed tables load lazily: nothing is parsed until a table is first requested or preloaded,
+ * and tables being loaded are parsed concurrently on a small shared executor.
+ *
+ * A newer catalog can replace the current one at any time (see CatalogReloader). Replacement is a single
+ * volatile write, so a caller that fetches the catalog once per lookup always sees one complete version.
+ */
+public final class Catalog {
+    public static final String DATA_DIR = "src/data";
+    public static final String PACK_PATH = DATA_DIR + "/game.pack";
+
+    private static final ExecutorService LOADER = Executors.newFixedThreadPool(
+            Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors())), task -> {
+                Thread thread = new Thread(task, "catalog-loader");
+                thread.setDaemon(true);
+                return thread;
+            });
+
+    private static volatile Catalog current;
+
+    // One slot per DataFile; a slot stays null until its table is first requested
+    private final AtomicReferenceArray<CompletableFuture<DataTable>> tables;
+    private final String dataDir;
+    private final String source;
+    private final int version;
+
+    Catalog(DataTable[] tables, String source) {
+        this(new AtomicReferenceArray<CompletableFuture<DataTable>>(DataFile.values().length), null, source, 1);
+        for (int i = 0; i < tables.length; i++) {
+            this.tables.set(i, CompletableFuture.completedFuture(tables[i]));
+        }
+    }
+
+    private Catalog(AtomicReferenceArray<CompletableFuture<DataTable>> tables, String dataDir, String source, int version) {
+        this.tables = tables;
+        this.dataDir = dataDir;
+        this.source = source;
+        this.version = version;
+    }
+
+    /**
+     * Gets the game data catalog, creating it on first use. Creating a text-backed catalog
+     * does not parse anything yet.
+     * @return The catalog
+     */
+    public static Catalog get() {
+        Catalog catalog = current;
+        if (catalog == null) {
+            synchronized (Catalog.class) {
+                catalog = current;
+                if (catalog == null) {
+                    catalog = load(DATA_DIR, PACK_PATH);
+                    current = catalog;
+                }
+            }
+        }
+        return catalog;
+    }
+
+    /**
+     * Starts loading every table of the current catalog in the background and returns immediately.
+     * Call this early in startup so the data is ready by the time the first game needs it.
+     */
+    public static void preload() {
+        Thread preloader = new Thread(() -> get().prefetch(DataFile.values()), "catalog-preload");
+        preloader.setDaemon(true);
+        preloader.start();
+    }
+
+    /**
+     * Replaces the current catalog. Lookups already in progress keep using the catalog they fetched.
+     * @param catalog The new catalog
+     */
+    public static void publish(Catalog catalog) {
+        current = catalog;
+    }
+
+    /**
+     * Loads a catalog, preferring the data pack and falling back to the text files.
+     * @param dataDir The directory holding the text data files
+     * @param packPath The path of the data pack
+     * @return The loaded catalog
+     */
+    public static Catalog load(String dataDir, String packPath) {
+        Catalog packed = DataPack.load(packPath, dataDir);
+        return packed != null ? packed : loadText(dataDir);
+    }
+
+    /**
+     * Creates a catalog backed by the text data files. Each table is parsed on first use.
+     * @param dataDir The directory holding the text data files
+     * @return The catalog
+     */
+    public static Catalog loadText(String dataDir) {
+        return new Catalog(new AtomicReferenceArray<CompletableFuture<DataTable>>(DataFile.values().length),
+                dataDir, "text", 1);
+    }
+
+    /**
+     * Gets the table of a data file, waiting for it to load if necessary.
+     * @param file The data file
+     * @return The table
+     */
+    public DataTable getTable(DataFile file) {
+        try {
+            return future(file).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts loading some tables in the background without waiting for them, so that tables
+     * needed together are parsed concurrently rather than one after another.
+     * @param files The data files to load
+     */
+    public void prefetch(DataFile... files) {
+        for (DataFile file : files) {
+            future(file);
+        }
+    }
+
+    /**
+     * Creates the next catalog version with one table replaced. This catalog is unchanged.
+     * @param file The data file whose table is replaced
+     * @param table The new table
+     * @return The new catalog
+     */
+    public Catalog withTable(DataFile file, DataTable table) {
+        AtomicReferenceArray<CompletableFuture<DataTable>> next = new AtomicReferenceArray<>(tables.length());
+        for (int i = 0; i < tables.length(); i++) {
+            next.set(i, tables.get(i));
+        }
+        next.set(file.ordinal(), CompletableFuture.completedFuture(table));
+        return new Catalog(next, dataDir, source.equals("pack") ? "pack+text" : source, version + 1);
+    }
+
+    public int getVersion() {
+        return version;
+    }
+
+    /**
+     * Describes where the catalog was loaded from.
+     * @return "pack" or "text", or "pack+text" once reloaded tables have replaced packed ones
+     */
+    public String getSource() {
+        return source;
+    }
+
+    // Returns the table's load, starting it on the loader executor if nobody has asked for it yet
+    private CompletableFuture<DataTable> future(DataFile file) {
+        int slot = file.ordinal();
+        CompletableFuture<DataTable> future = tables.get(slot);
+        if (future == null) {
+            CompletableFuture<DataTable> created = new CompletableFuture<>();
+            if (!tables.compareAndSet(slot, null, created)) {
+                return tables.get(slot);
+            }
+            LOADER.execute(() -> {
+                try {
+                    created.complete(DataFileParser.parse(file, dataDir));
+                } catch (Throwable e) {
+                    // Complete on every failure, errors included, or callers joining this table would wait forever
+                    created.completeExceptionally(e);
+                }
+            });
+            future = created;
+        }
+        return future;
+    }
+}
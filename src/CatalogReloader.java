@@ -0,0 +1,137 @@
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Watches the data directory and hot-reloads data files while the game runs.
+ * Only the changed file is re-parsed, on a background daemon thread. The new table is validated and,
+ * if it passes, published as a new Catalog version in one swap; a file that fails validation is
+ * reported and the previous table stays in use.
+ */
+public final class CatalogReloader implements AutoCloseable {
+    // Editors often write a file in several steps; wait for them to settle before re-parsing
+    private static final long SETTLE_MILLIS = 100;
+
+    private final Path dataDir;
+    private final WatchService watchService;
+    private final Thread thread;
+
+    private CatalogReloader(Path dataDir) throws IOException {
+        this.dataDir = dataDir;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        dataDir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+        this.thread = new Thread(this::watch, "catalog-reloader");
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Starts watching a data directory. The current catalog is loaded first if it has not been yet.
+     * @param dataDir The directory holding the text data files
+     * @return The running reloader
+     * @throws IOException If the directory cannot be watched
+     */
+    public static CatalogReloader start(String dataDir) throws IOException {
+        Catalog.get();
+        CatalogReloader reloader = new CatalogReloader(Paths.get(dataDir));
+        reloader.thread.start();
+        return reloader;
+    }
+
+    /**
+     * Re-parses one data file and publishes it if it is valid.
+     * @param file The data file to reload
+     * @return true if a new catalog version was published
+     */
+    public boolean reload(DataFile file) {
+        DataTable table;
+        try {
+            table = DataFileParser.parseCopy(file, dataDir.toString());
+        } catch (IOException | RuntimeException e) {
+            // A file caught mid-write may be unreadable or malformed; keep the previous version until the next save
+            System.out.println("Rejected " + file.getFileName() + ": " + e);
+            return false;
+        }
+
+        String problem = validate(table);
+        if (problem != null) {
+            System.out.println("Rejected " + file.getFileName() + ": " + problem);
+            return false;
+        }
+
+        // The reloader thread is the only writer after startup, so read-modify-publish cannot lose an update
+        Catalog next = Catalog.get().withTable(file, table);
+        Catalog.publish(next);
+        System.out.println("Reloaded " + file.getFileName() + " (" + table.size() + " rows, catalog version " + next.getVersion() + ")");
+        return true;
+    }
+
+    /**
+     * Checks a freshly parsed table for data the game cannot use.
+     * @param table The table to check
+     * @return A description of the first problem found, or null if the table is valid
+     */
+    static String validate(DataTable table) {
+        DataFile file = table.getFile();
+        if (table.size() == 0) {
+            return "no rows";
+        }
+        for (int row = 0; row < table.size(); row++) {
+            for (int column = 0; column < file.getIntColumns(); column++) {
+                if (table.getInt(row, column) < 0) {
+                    return table.getName(row) + " has a negative value in column " + (column + 2);
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        watchService.close();
+        thread.interrupt();
+    }
+
+    private void watch() {
+        try {
+            while (true) {
+                WatchKey key = watchService.take();
+                Set<DataFile> changed = EnumSet.noneOf(DataFile.class);
+                collectChanges(key, changed);
+
+                // Coalesce the burst of events a single save produces
+                Thread.sleep(SETTLE_MILLIS);
+                while ((key = watchService.poll()) != null) {
+                    collectChanges(key, changed);
+                }
+
+                for (DataFile file : changed) {
+                    reload(file);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Reloader closed
+        }
+    }
+
+    private void collectChanges(WatchKey key, Set<DataFile> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                changed.addAll(EnumSet.allOf(DataFile.class));
+                continue;
+            }
+            DataFile file = DataFile.forFileName(event.context().toString());
+            if (file != null) {
+                changed.add(file);
+            }
+        }
+        key.reset();
+    }
+}
@@ -3,34 +3,49 @@
  * level, and attributes. This class is extended by more specific character types like Hero and Monster,
  * providing shared functionality such as attacking, defending, and leveling up.
  *
+ * Numeric stats are not stored on the object: each character owns a slot in the UnitStore and reads and
+ * writes its stats through that slot's id.
  */
 public abstract class Character {
     protected String name;
-    protected int level;
-    protected int healthPoints;
-    protected int manaPoints;
+    protected final UnitStore store;
+    protected final int id;
+    StatusEffect statusEffects;  // Head of this character's timed effects, managed by StatusEffects
 
     public Character(String name, int level) {
         this.name = name;
-        this.level = level;
-        this.healthPoints = level * 100;
-        this.manaPoints = level * 50;
+        this.store = UnitStore.getInstance();
+        this.id = store.allocate();
+        store.level[id] = level;
+        store.maxHealth[id] = level * 100;
+        store.maxMana[id] = level * 50;
+        store.mana[id] = level * 50;
+        store.setHealth(id, level * 100);
     }
     public abstract String getSymbol();
     public String getName() { return name; }
-    public int getHealthPoints() { return healthPoints; }
-    public int getManaPoints() { return manaPoints; }
-    public int getLevel() { return level; }
+    public int getHealthPoints() { return store.maxHealth[id]; }
+    public int getManaPoints() { return store.maxMana[id]; }
+    public int getLevel() { return store.level[id]; }
+    public int getUnitId() { return id; }
 
     public void takeDamage(int damage) {
-        healthPoints = Math.max(healthPoints - damage, 0);
+        store.setHealth(id, Math.max(store.health[id] - damage, 0));
     }
 
-    public boolean isAlive() { return healthPoints > 0; }
+    public boolean isAlive() { return store.isAlive(id); }
+
+    /**
+     * Returns this character's slot to the UnitStore. The character must not be used afterwards.
+     */
+    public void release() {
+        StatusEffects.getInstance().cancelAll(this);
+        store.release(id);
+    }
 
     @Override
     public String toString() {
-        return "Name: " + name + ", Level=" + level;
+        return "Name: " + name + ", Level=" + getLevel();
     }
 
 }
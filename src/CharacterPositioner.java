@@ -6,13 +6,19 @@ import java.util.List;
  */
 public class CharacterPositioner {
     private GridManager gridManager;
+    private NexusTracker nexusTracker;
+    private MonsterOccupancy monsterOccupancy;
 
     /**
      * Creates a new CharacterPositioner with a reference to the GridManager.
      * @param gridManager The GridManager to use for position validation
+     * @param nexusTracker The tracker to report position changes to
+     * @param monsterOccupancy The index to report monster position changes to
      */
-    public CharacterPositioner(GridManager gridManager) {
+    public CharacterPositioner(GridManager gridManager, NexusTracker nexusTracker, MonsterOccupancy monsterOccupancy) {
         this.gridManager = gridManager;
+        this.nexusTracker = nexusTracker;
+        this.monsterOccupancy = monsterOccupancy;
     }
 
     /**
@@ -36,6 +42,7 @@ public class CharacterPositioner {
 
         hero.setHeroRow(targetRow);
         hero.setHeroCol(targetCol);
+        nexusTracker.update(hero);
         gridManager.getGrid()[targetRow][targetCol].setOccupant(hero);
         return true;
     }
@@ -61,10 +68,39 @@ public class CharacterPositioner {
 
         monster.setMonsterRow(targetRow);
         monster.setMonsterCol(targetCol);
+        nexusTracker.update(monster);
+        monsterOccupancy.update(monster);
         gridManager.getGrid()[targetRow][targetCol].setOccupant(monster);
         return true;
     }
 
+    /**
+     * Places a newly spawned monster in the first free lane of the monster nexus, leaving every other
+     * character where it is.
+     * @param monster The monster to place
+     * @param monsters The monsters already in play
+     * @return true if a lane was free, false if the monster does not fit
+     */
+    public boolean placeSpawnedMonster(Monster monster, List<Monster> monsters) {
+        Space[][] grid = gridManager.getGrid();
+        for (int col = 0; col + 1 < grid[0].length && col <= 6; col += 3) {
+            boolean laneTaken = false;
+            for (Monster other : monsters) {
+                if (other != monster && other.isAlive() && other.getMonsterRow() == 0
+                        && (other.getMonsterCol() == col || other.getMonsterCol() == col + 1)) {
+                    laneTaken = true;
+                    break;
+                }
+            }
+            if (!laneTaken) {
+                setMonsterLocation(monster, 0, col);
+                setMonsterLocation(monster, 0, col + 1);
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Sets up heroes and monsters on the game board.
      * @param heroes List of heroes to place
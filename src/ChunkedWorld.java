@@ -0,0 +1,99 @@
+/**
+ * A Monsters and Heroes world with no edges, generated a chunk at a time as the party explores.
+ *
+ * The world is split into CHUNK_SIZE x CHUNK_SIZE chunks. A chunk's spaces are generated on first visit
+ * from the world seed and the chunk's coordinates alone, so the same seed always yields the same map.
+ * Only the most recently used chunks are kept; the rest are dropped and regenerated identically if the
+ * party returns, so memory stays bounded however far the party travels. A dropped market is restocked
+ * from scratch when it is generated again.
+ */
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+public class ChunkedWorld extends World {
+    public static final int CHUNK_SIZE = 16;
+    private static final int MAX_CACHED_CHUNKS = 64;
+    private static final int VIEW_SIZE = 8;
+
+    private final long seed;
+    // Access-ordered, so the eldest entry is the least recently used chunk
+    private final Map<Long, Space[][]> chunks = new LinkedHashMap<Long, Space[][]>(MAX_CACHED_CHUNKS * 2, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Space[][]> eldest) {
+            return size() > MAX_CACHED_CHUNKS;
+        }
+    };
+    private int chunksGenerated;
+
+    /**
+     * Creates a world. Nothing is generated until a space is first looked at.
+     * @param seed The seed the whole map is derived from
+     */
+    public ChunkedWorld(long seed) {
+        super(VIEW_SIZE, VIEW_SIZE, null);
+        this.seed = seed;
+    }
+
+    @Override
+    protected Space getSpace(int row, int col) {
+        int chunkRow = Math.floorDiv(row, CHUNK_SIZE);
+        int chunkCol = Math.floorDiv(col, CHUNK_SIZE);
+        long key = ((long) chunkRow << 32) | (chunkCol & 0xFFFFFFFFL);
+        Space[][] chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = generateChunk(chunkRow, chunkCol, key);
+            chunks.put(key, chunk);
+        }
+        return chunk[Math.floorMod(row, CHUNK_SIZE)][Math.floorMod(col, CHUNK_SIZE)];
+    }
+
+    @Override
+    protected boolean isInside(int row, int col) {
+        // Unbounded apart from the limits of an int
+        return row > Integer.MIN_VALUE && row < Integer.MAX_VALUE && col > Integer.MIN_VALUE && col < Integer.MAX_VALUE;
+    }
+
+    // The map view follows the party
+    @Override
+    protected int getViewRow() { return heroRow - VIEW_SIZE / 2; }
+
+    @Override
+    protected int getViewCol() { return heroCol - VIEW_SIZE / 2; }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public int getCachedChunkCount() {
+        return chunks.size();
+    }
+
+    public int getChunksGenerated() {
+        return chunksGenerated;
+    }
+
+    // Builds a chunk with the same space mix as World, from a random stream that depends only on seed and position
+    private Space[][] generateChunk(int chunkRow, int chunkCol, long key) {
+        chunksGenerated++;
+        Random random = new Random(seed ^ (key * 0x9E3779B97F4A7C15L));
+        Space[][] chunk = new Space[CHUNK_SIZE][CHUNK_SIZE];
+        for (int i = 0; i < CHUNK_SIZE; i++) {
+            for (int j = 0; j < CHUNK_SIZE; j++) {
+                int spaceType = random.nextInt(100);
+                if (spaceType < 20) {
+                    chunk[i][j] = new InaccessibleSpace();
+                } else if (spaceType < 50) {
+                    chunk[i][j] = new Market();
+                } else {
+                    chunk[i][j] = new CommonSpace();
+                }
+            }
+        }
+        if (chunkRow == 0 && chunkCol == 0) {
+            chunk[0][0] = new CommonSpace();  // The party starts at the origin
+        }
+        return chunk;
+    }
+}
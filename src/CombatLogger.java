@@ -4,8 +4,9 @@ import java.util.List;
 /**
  * Handles combat logging with improved formatting and color coding.
  * Maintains a history of recent combat events for reference.
+ * Attacks and spell casts reach it as events from the GameEventBus.
  */
-public class CombatLogger {
+public class CombatLogger implements GameEventListener {
     private static final int MAX_LOG_SIZE = 10;
     private List<String> combatHistory;
     private static CombatLogger instance;
@@ -38,6 +39,27 @@ public class CombatLogger {
         return instance;
     }
 
+    @Override
+    public void onEvent(GameEvent event) {
+        switch (event.getType()) {
+            case HERO_ATTACK:
+                logHeroAttack((Hero) event.getActor(), (Monster) event.getTarget(), event.getAmount(), event.getFlag());
+                break;
+            case MONSTER_ATTACK:
+                logMonsterAttack((Monster) event.getActor(), (Hero) event.getTarget(), event.getAmount(), event.getFlag());
+                break;
+            case SPELL_CAST:
+                if (event.getDetail() != null) {
+                    logAreaHit(event.getName(), event.getSpellType(), event.getDetail(), (Monster) event.getTarget(), event.getAmount());
+                } else {
+                    logSpellCast((Hero) event.getActor(), event.getName(), event.getSpellType(), (Monster) event.getTarget(), event.getAmount());
+                }
+                break;
+            default:
+                break;
+        }
+    }
+
     /**
      * Logs a hero attack on a monster with detailed information
      * @param hero The attacking hero
@@ -99,23 +121,17 @@ public class CombatLogger {
     /**
      * Logs a spell cast with detailed information
      * @param hero The hero casting the spell
-     * @param spell The spell being cast
+     * @param spellName The name of the spell being cast
+     * @param spellType The spell's type
      * @param monster The monster target
      * @param damage The damage dealt
      */
-    public void logSpellCast(Hero hero, Spell spell, Monster monster, int damage) {
-        String spellColor;
-        
+    public void logSpellCast(Hero hero, String spellName, SpellType spellType, Monster monster, int damage) {
         // Color based on spell type
-        switch(spell.getSpellType().toLowerCase()) {
-            case "ice": spellColor = CYAN; break;
-            case "fire": spellColor = RED; break;
-            case "lightning": spellColor = YELLOW; break;
-            default: spellColor = PURPLE; break;
-        }
+        String spellColor = spellType != null ? spellType.getColor() : PURPLE;
         
         String message = BOLD + GREEN + hero.getName() + RESET + " casts " + 
-                         BOLD + spellColor + spell.getName() + RESET + " on " + 
+                         BOLD + spellColor + spellName + RESET + " on " + 
                          BOLD + RED + monster.getName() + RESET + " for " + 
                          BOLD + spellColor + damage + RESET + " damage!";
         
@@ -127,11 +143,35 @@ public class CombatLogger {
         }
         
         // Add spell effect information
-        message += "\n  " + PURPLE + "→ Effect: Reduced " + spell.getSpellType() + " attributes" + RESET;
+        message += "\n  " + PURPLE + "→ Effect: Reduced " + spellType + " attributes" + RESET;
         
         logAndPrint(message);
     }
     
+    /**
+     * Logs a monster caught in the area of a spell aimed at another monster
+     * @param spellName The name of the spell
+     * @param spellType The spell's type
+     * @param area The area shape that caught the monster
+     * @param monster The monster caught in the area
+     * @param damage The damage dealt
+     */
+    public void logAreaHit(String spellName, SpellType spellType, String area, Monster monster, int damage) {
+        String spellColor = spellType != null ? spellType.getColor() : PURPLE;
+
+        String message = "  " + BOLD + RED + monster.getName() + RESET + " is caught in the " + area + " of " +
+                         BOLD + spellColor + spellName + RESET + ", taking " +
+                         BOLD + spellColor + damage + RESET + " damage!";
+
+        if (monster.isAlive()) {
+            message += " " + RED + monster.getName() + " HP: " + monster.getCurrentHealth() + "/" + monster.getHealth() + RESET;
+        } else {
+            message += " " + RED + BOLD + monster.getName() + " has been defeated!" + RESET;
+        }
+
+        logAndPrint(message);
+    }
+
     /**
      * Logs a potion use with detailed information
      * @param hero The hero using the potion
@@ -7,13 +7,34 @@ import java.util.List;
  */
 public class CombatSystem {
     private GridManager gridManager;
+    private NexusTracker nexusTracker;
+    private MonsterPolicy monsterPolicy;
+
+    // Reusable candidate buffers for monster targeting
+    private Hero[] candidates = new Hero[0];
+    private int[] candidateHealth = new int[0];
+    private int[] candidateArmor = new int[0];
+    private int[] candidateDistance = new int[0];
 
     /**
      * Creates a new CombatSystem with a reference to the GridManager.
      * @param gridManager The GridManager to use for grid access
+     * @param nexusTracker The tracker that knows who stands in a Nexus
      */
-    public CombatSystem(GridManager gridManager) {
+    public CombatSystem(GridManager gridManager, NexusTracker nexusTracker) {
         this.gridManager = gridManager;
+        this.nexusTracker = nexusTracker;
+        this.monsterPolicy = new UtilityMonsterPolicy();
+    }
+
+    /**
+     * Replaces the policy monsters use to pick their targets.
+     * @param monsterPolicy The policy to use
+     */
+    public void setMonsterPolicy(MonsterPolicy monsterPolicy) {
+        if (monsterPolicy != null) {
+            this.monsterPolicy = monsterPolicy;
+        }
     }
 
     /**
@@ -100,33 +121,66 @@ public class CombatSystem {
     }
 
     /**
-     * Executes an attack from a monster to heroes in range.
+     * Executes an attack from a monster on the hero chosen by the monster policy.
      * @param monster The attacking monster
      * @param heroes List of potential hero targets
-     * @return true if attack was successful, false otherwise
+     * @return The hero that was attacked, or null if no hero was in range
      */
-    public boolean monsterAttack(Monster monster, List<Hero> heroes) {
-        List<Hero> heroesInRange = getHeroesInRange(monster, heroes);
-        
-        if (!heroesInRange.isEmpty()) {
-            // Choose the hero with the lowest health to attack
-            Hero target = heroesInRange.stream()
-                    .filter(Hero::isAlive)
-                    .min((h1, h2) -> Integer.compare(h1.getCurrentHealth(), h2.getCurrentHealth()))
-                    .orElse(null);
-            
-            if (target != null) {
-                monster.attack(target);
-                System.out.println(monster.getName() + " attacks " + target.getName() + "!");
-                if (!target.isAlive()) {
-                    System.out.println(target.getName() + " has been defeated!");
-                    // Heroes respawn at their nexus with full HP and MP
-                    System.out.println(target.getName() + " will respawn at the nexus in the next round.");
-                }
-                return true;
+    public Hero monsterAttack(Monster monster, List<Hero> heroes) {
+        int count = collectCandidates(monster, heroes);
+        if (count == 0) {
+            return null;
+        }
+
+        int choice = monsterPolicy.chooseTarget(monster, candidateHealth, candidateArmor, candidateDistance, count);
+        if (choice < 0 || choice >= count) {
+            return null;
+        }
+
+        Hero target = candidates[choice];
+        monster.attack(target);
+        if (!target.isAlive()) {
+            // Heroes respawn at their nexus with full HP and MP
+            GameEventBus.getInstance().publish(GameEvent.Type.HERO_DEFEATED, target);
+        }
+        return target;
+    }
+
+    /**
+     * Fills the candidate buffers with the living heroes in attack range of a monster.
+     * @param monster The monster looking for targets
+     * @param heroes List of all heroes
+     * @return The number of candidates written to the buffers
+     */
+    private int collectCandidates(Monster monster, List<Hero> heroes) {
+        int size = heroes.size();
+        if (candidates.length < size) {
+            candidates = new Hero[size];
+            candidateHealth = new int[size];
+            candidateArmor = new int[size];
+            candidateDistance = new int[size];
+        }
+
+        int monsterRow = monster.getMonsterRow();
+        int monsterCol = monster.getMonsterCol();
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            Hero hero = heroes.get(i);
+            if (!hero.isAlive()) {
+                continue;
+            }
+
+            // Same range rule as getHeroesInRange: the current cell or an orthogonally adjacent one
+            int distance = Math.abs(hero.getHeroRow() - monsterRow) + Math.abs(hero.getHeroCol() - monsterCol);
+            if (distance <= 1) {
+                candidates[count] = hero;
+                candidateHealth[count] = hero.getCurrentHealth();
+                candidateArmor[count] = hero.getInventory().useArmor();
+                candidateDistance[count] = distance;
+                count++;
             }
         }
-        return false;
+        return count;
     }
 
     /**
@@ -143,8 +197,8 @@ public class CombatSystem {
         int goldReward = 500 * monster.getLevel();
         int experienceReward = 2 * monster.getLevel();
         
-        System.out.println("\nMonster " + monster.getName() + " has been defeated!");
-        System.out.println("All heroes receive " + goldReward + " gold and " + experienceReward + " experience points!");
+        GameEventBus.getInstance().publish(GameEvent.Type.MONSTER_DEFEATED, monster, null, goldReward, experienceReward,
+                false, null, null);
         
         // Distribute rewards to all heroes
         for (Hero hero : heroes) {
@@ -190,24 +244,17 @@ public class CombatSystem {
      * @return true if game is over, false otherwise
      */
     public boolean checkWinCondition(List<Hero> heroes, List<Monster> monsters) {
-        Space[][] grid = gridManager.getGrid();
-        
-        // Check if any monster has reached the heroes' Nexus (bottom row)
-        for (Monster monster : monsters) {
-            if (monster.isAlive() && monster.getMonsterRow() == 7 && grid[7][monster.getMonsterCol()] instanceof NexusSpace) {
-                System.out.println("\n" + monster.getName() + " has reached the heroes' Nexus!");
-                System.out.println("GAME OVER - Monsters Win!");
-                return true;
-            }
+        // The tracker already knows who is in a Nexus, so neither list needs to be scanned
+        Monster monster = nexusTracker.getMonsterInNexus();
+        if (monster != null) {
+            GameEventBus.getInstance().publish(GameEvent.Type.NEXUS_REACHED, monster);
+            return true;
         }
 
-        // Check if any hero has reached the monsters' Nexus (top row)
-        for (Hero hero : heroes) {
-            if (hero.isAlive() && hero.getHeroRow() == 0 && grid[0][hero.getHeroCol()] instanceof NexusSpace) {
-                System.out.println("\n" + hero.getName() + " has reached the monsters' Nexus!");
-                System.out.println("VICTORY - Heroes Win!");
-                return true;
-            }
+        Hero hero = nexusTracker.getHeroInNexus();
+        if (hero != null) {
+            GameEventBus.getInstance().publish(GameEvent.Type.NEXUS_REACHED, hero);
+            return true;
         }
 
         return false;
@@ -219,12 +266,8 @@ public class CombatSystem {
      * @return true if the hero is in a Nexus, false otherwise
      */
     public boolean isInNexus(Hero hero) {
-        Space[][] grid = gridManager.getGrid();
-        int row = hero.getHeroRow();
-        
-        // A hero is in a Nexus if they are in the bottom row (row 7) for hero Nexus
-        // or top row (row 0) for monster Nexus
-        return row == 7 && grid[row][hero.getHeroCol()] instanceof NexusSpace;
+        // The tracker owns the Nexus layout, so this agrees with its win checks on any board size
+        return nexusTracker.isInHeroNexus(hero);
     }
 
     /**
@@ -260,7 +303,7 @@ public class CombatSystem {
             int row = obstaclePositions.get(0)[0];
             int col = obstaclePositions.get(0)[1];
             grid[row][col] = new PlainSpace();
-            System.out.println(hero.getName() + " removed an obstacle at [" + row + "," + col + "], turning it into a plain space.");
+            GameEventBus.getInstance().publish(GameEvent.Type.OBSTACLE_REMOVED, hero, null, row, col, false, null, null);
             return true;
         }
         
@@ -276,7 +319,7 @@ public class CombatSystem {
             int row = obstaclePositions.get(choice - 1)[0];
             int col = obstaclePositions.get(choice - 1)[1];
             grid[row][col] = new PlainSpace();
-            System.out.println(hero.getName() + " removed an obstacle at [" + row + "," + col + "], turning it into a plain space.");
+            GameEventBus.getInstance().publish(GameEvent.Type.OBSTACLE_REMOVED, hero, null, row, col, false, null, null);
             return true;
         } else {
             System.out.println("Invalid choice. No obstacle was removed.");
@@ -323,8 +366,9 @@ public class CombatSystem {
             if (gridManager.isValidPosition(nexus[0], nexus[1])) {
                 hero.setHeroRow(nexus[0]);
                 hero.setHeroCol(nexus[1]);
+                nexusTracker.update(hero);
                 gridManager.getGrid()[nexus[0]][nexus[1]].setOccupant(hero);
-                System.out.println(hero.getName() + " has respawned at the nexus with full health and mana.");
+                GameEventBus.getInstance().publish(GameEvent.Type.HERO_RESPAWNED, hero);
             }
         }
     }
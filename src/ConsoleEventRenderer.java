@@ -0,0 +1,98 @@
+/**
+ * Prints game events to the console with the same wording the game has always used.
+ * Attacks and spell casts are left to the CombatLogger, which also keeps a history of them.
+ */
+public class ConsoleEventRenderer implements GameEventListener {
+
+    @Override
+    public void onEvent(GameEvent event) {
+        Character actor = event.getActor();
+        switch (event.getType()) {
+            case LEVEL_UP:
+                System.out.println(actor.getName() + " leveled up to " + event.getAmount() + "!");
+                break;
+            case HEALED:
+                System.out.println(actor.getName() + " heals " + event.getAmount() + " HP");
+                break;
+            case MANA_RESTORED:
+                System.out.println(actor.getName() + " restores " + event.getAmount() + " MP");
+                break;
+            case STAT_GAINED:
+                System.out.println(actor.getName() + " gains " + event.getAmount() + " " + event.getName());
+                break;
+            case TERRAIN_ENTERED:
+                System.out.println(actor.getName() + " gains " + withArticle(event.getName()) + " boost in the " + event.getDetail() + ".");
+                break;
+            case TERRAIN_LEFT:
+                System.out.println(actor.getName() + " loses " + withArticle(event.getName()) + " boost from the " + event.getDetail() + ".");
+                break;
+            case SPELL_EFFECT:
+                renderSpellEffect(event);
+                break;
+            case MOVED:
+                System.out.println("Moved " + actor.getName() + " " + event.getName() + ".");
+                break;
+            case MOVE_REJECTED:
+                System.out.println(event.getDetail());
+                break;
+            case PATH_BLOCKED:
+                System.out.println("There's an obstacle blocking " + actor.getName() + "'s path.");
+                break;
+            case TELEPORTED:
+                System.out.println("Teleport successful.");
+                break;
+            case RECALLED:
+                System.out.println("Recalling " + actor.getName());
+                break;
+            case HERO_DEFEATED:
+                System.out.println(actor.getName() + " has been defeated!");
+                System.out.println(actor.getName() + " will respawn at the nexus in the next round.");
+                break;
+            case HERO_RESPAWNED:
+                System.out.println(actor.getName() + " has respawned at the nexus with full health and mana.");
+                break;
+            case MONSTER_DEFEATED:
+                System.out.println("\nMonster " + actor.getName() + " has been defeated!");
+                System.out.println("All heroes receive " + event.getAmount() + " gold and " + event.getValue() + " experience points!");
+                break;
+            case NEXUS_REACHED:
+                if (actor instanceof Monster) {
+                    System.out.println("\n" + actor.getName() + " has reached the heroes' Nexus!");
+                    System.out.println("GAME OVER - Monsters Win!");
+                } else {
+                    System.out.println("\n" + actor.getName() + " has reached the monsters' Nexus!");
+                    System.out.println("VICTORY - Heroes Win!");
+                }
+                break;
+            case OBSTACLE_REMOVED:
+                System.out.println(actor.getName() + " removed an obstacle at [" + event.getAmount() + "," + event.getValue() + "], turning it into a plain space.");
+                break;
+            case EFFECT_EXPIRED:
+                if (event.getSpellType() != null) {
+                    System.out.println(actor.getName() + " recovers from the " + event.getSpellType() + " spell's effect.");
+                } else {
+                    System.out.println(actor.getName() + "'s " + event.getName() + " boost wears off.");
+                }
+                break;
+            case BURN_DAMAGE:
+                System.out.println(actor.getName() + " burns for " + event.getAmount() + " damage.");
+                break;
+            default:
+                // Attacks and spell casts are printed by the CombatLogger
+                break;
+        }
+    }
+
+    private void renderSpellEffect(GameEvent event) {
+        SpellType spellType = event.getSpellType();
+        if (spellType == null) {
+            System.out.println("Unknown spell type: no effect applied.");
+        } else {
+            System.out.println(spellType.describeEffect(event.getActor().getName(), event.getAmount(), event.getValue()));
+        }
+    }
+
+    private static String withArticle(String word) {
+        return ("aeiou".indexOf(word.charAt(0)) >= 0 ? "an " : "a ") + word;
+    }
+}
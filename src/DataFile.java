@@ -0,0 +1,63 @@
+/**
+ * The game data files under src/data and the column layout of each.
+ * Every row is a name, a fixed number of integer columns and, for potions and spells, one trailing text column.
+ */
+public enum DataFile {
+    // Name/cost/level/damage/required hands
+    WEAPONRY("Weaponry.txt", "Weapon", 4, false),
+    // Name/cost/required level/damage reduction
+    ARMORY("Armory.txt", "Armor", 3, false),
+    // Name/cost/required level/attribute increase/attribute affected
+    POTIONS("Potions.txt", "Potion", 3, true),
+    // Name/cost/required level/damage/mana cost/area size/area shape
+    FIRE_SPELLS("FireSpells.txt", "Fire", 5, true),
+    ICE_SPELLS("IceSpells.txt", "Ice", 5, true),
+    LIGHTNING_SPELLS("LightningSpells.txt", "Lightning", 5, true),
+    // Name/level/damage/defense/dodge chance
+    DRAGONS("Dragons.txt", "Dragon", 4, false),
+    SPIRITS("Spirits.txt", "Spirit", 4, false),
+    EXOSKELETONS("Exoskeletons.txt", "Exoskeleton", 4, false),
+    // Name/mana/strength/agility/dexterity/starting money/starting experience
+    WARRIORS("Warriors.txt", "Warrior", 6, false),
+    SORCERERS("Sorcerers.txt", "Sorcerer", 6, false),
+    PALADINS("Paladins.txt", "Paladin", 6, false);
+
+    private final String fileName;
+    private final String label;
+    private final int intColumns;
+    private final boolean hasText;
+
+    DataFile(String fileName, String label, int intColumns, boolean hasText) {
+        this.fileName = fileName;
+        this.label = label;
+        this.intColumns = intColumns;
+        this.hasText = hasText;
+    }
+
+    public String getFileName() { return fileName; }
+    public String getLabel() { return label; }
+    public int getIntColumns() { return intColumns; }
+    public boolean hasText() { return hasText; }
+
+    /**
+     * Gets the number of whitespace-separated columns a row of this file has.
+     * @return The column count, including the name
+     */
+    public int getColumnCount() {
+        return 1 + intColumns + (hasText ? 1 : 0);
+    }
+
+    /**
+     * Finds the data file with the given file name.
+     * @param fileName A file name such as "Weaponry.txt"
+     * @return The data file, or null if the name is not a game data file
+     */
+    public static DataFile forFileName(String fileName) {
+        for (DataFile file : values()) {
+            if (file.fileName.equals(fileName)) {
+                return file;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,86 @@
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Parses the whitespace-delimited text data files into DataTables.
+ * This is the fallback used when no up-to-date data pack is available.
+ * Files are memory-mapped and read with a DataTokenizer, so the only per-row allocation is the row's name.
+ */
+public final class DataFileParser {
+
+    private DataFileParser() {
+    }
+
+    /**
+     * Parses one data file.
+     * @param file The data file to parse
+     * @param dataDir The directory holding the data files
+     * @return The parsed table, empty if the file could not be read
+     */
+    public static DataTable parse(DataFile file, String dataDir) {
+        try (FileChannel channel = FileChannel.open(Paths.get(dataDir, file.getFileName()), StandardOpenOption.READ)) {
+            return parse(file, channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        } catch (IOException e) {
+            System.out.println("Error reading file " + file.getFileName() + ": " + e.getMessage());
+            return new DataTable.Builder(file).build();
+        }
+    }
+
+    /**
+     * Parses one data file from a private copy of its bytes rather than a mapping. Used for hot reloads,
+     * where an editor may truncate the file while it is being read; a truncated mapping faults on access,
+     * but a copy only ever holds the bytes that were there when it was read.
+     * @param file The data file to parse
+     * @param dataDir The directory holding the data files
+     * @return The parsed table
+     * @throws IOException If the file could not be read
+     * @throws NumberFormatException If an integer column holds something other than an integer
+     */
+    public static DataTable parseCopy(DataFile file, String dataDir) throws IOException {
+        return parse(file, ByteBuffer.wrap(Files.readAllBytes(Paths.get(dataDir, file.getFileName()))));
+    }
+
+    /**
+     * Parses data in the format of a data file. The first line is a header and is skipped, rows with
+     * too few columns are ignored and columns past the last expected one are dropped.
+     * @param file The data file whose column layout the data follows
+     * @param data The file contents, from its position to its limit
+     * @return The parsed table
+     * @throws NumberFormatException If an integer column holds something other than an integer
+     */
+    public static DataTable parse(DataFile file, ByteBuffer data) {
+        DataTable.Builder builder = new DataTable.Builder(file);
+        DataTokenizer tokenizer = new DataTokenizer().reset(data);
+        int[] values = new int[DataTable.MAX_INT_COLUMNS];
+
+        // Skip the first line
+        tokenizer.nextLine();
+
+        while (tokenizer.nextLine()) {
+            if (!tokenizer.nextToken()) {
+                continue;
+            }
+            String name = tokenizer.tokenAsString();
+            boolean complete = true;
+            for (int i = 0; i < file.getIntColumns() && complete; i++) {
+                complete = tokenizer.nextToken();
+                if (complete) {
+                    values[i] = tokenizer.tokenAsInt();
+                }
+            }
+            String text = null;
+            if (complete && file.hasText()) {
+                complete = tokenizer.nextToken();
+                text = complete ? tokenizer.tokenAsString() : null;
+            }
+            if (complete) {
+                builder.addRow(name, values, text);
+            }
+        }
+        return builder.build();
+    }
+}
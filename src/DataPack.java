@@ -0,0 +1,149 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the binary data pack produced by DataPackCompiler.
+ *
+ * Layout (all ints big-endian):
+ * <pre>
+ * header     magic, version, table count, string table offset
+ * directory  per table: file name string index, record count, record offset, reserved, long source timestamp
+ * records    per table: record count * DataTable.RECORD_INTS ints
+ * strings    count, then per string: byte length and UTF-8 bytes
+ * </pre>
+ * The pack is memory-mapped and the record sections are handed to DataTables as IntBuffer views,
+ * so loading copies and parses nothing but the string table.
+ */
+public final class DataPack {
+    static final int MAGIC = 0x4C4F5650; // "LOVP"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 16;
+    static final int DIRECTORY_ENTRY_BYTES = 24;
+
+    private DataPack() {
+    }
+
+    /**
+     * Loads a catalog from a data pack.
+     * @param packPath The path of the pack
+     * @param dataDir The directory holding the text files the pack was compiled from
+     * @return The catalog, or null if the pack is missing, from another version, incomplete, corrupt
+     *         or older than any of its source files
+     */
+    public static Catalog load(String packPath, String dataDir) {
+        File packFile = new File(packPath);
+        if (!packFile.isFile()) {
+            return null;
+        }
+
+        MappedByteBuffer pack;
+        try (FileChannel channel = FileChannel.open(Paths.get(packPath), StandardOpenOption.READ)) {
+            pack = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            System.out.println("Error reading data pack " + packPath + ": " + e.getMessage());
+            return null;
+        }
+
+        if (pack.capacity() < HEADER_BYTES || pack.getInt(0) != MAGIC || pack.getInt(4) != VERSION) {
+            return null;
+        }
+        int tableCount = pack.getInt(8);
+        int stringsOffset = pack.getInt(12);
+        if (tableCount < 0 || tableCount > (pack.capacity() - HEADER_BYTES) / DIRECTORY_ENTRY_BYTES
+                || !fits(pack, stringsOffset, 4)) {
+            return null;
+        }
+        String[] strings = readStrings(pack, stringsOffset);
+        if (strings == null) {
+            return null;
+        }
+
+        DataTable[] tables = new DataTable[DataFile.values().length];
+        for (int t = 0; t < tableCount; t++) {
+            int entry = HEADER_BYTES + t * DIRECTORY_ENTRY_BYTES;
+            int nameIndex = pack.getInt(entry);
+            if (nameIndex < 0 || nameIndex >= strings.length) {
+                return null;
+            }
+            DataFile file = DataFile.forFileName(strings[nameIndex]);
+            if (file == null) {
+                continue;
+            }
+            File source = new File(dataDir, file.getFileName());
+            if (source.isFile() && source.lastModified() != pack.getLong(entry + 16)) {
+                return null;
+            }
+
+            int recordCount = pack.getInt(entry + 4);
+            int recordOffset = pack.getInt(entry + 8);
+            if (recordCount < 0 || recordCount > Integer.MAX_VALUE / (DataTable.RECORD_INTS * 4)) {
+                return null;
+            }
+            int recordBytes = recordCount * DataTable.RECORD_INTS * 4;
+            if (!fits(pack, recordOffset, recordBytes)
+                    || !stringIndicesValid(pack, recordOffset, recordCount, strings.length)) {
+                return null;
+            }
+            ByteBuffer section = pack.duplicate();
+            section.position(recordOffset);
+            section.limit(recordOffset + recordBytes);
+            tables[file.ordinal()] = new DataTable(file, section.slice().asIntBuffer(), strings);
+        }
+
+        for (DataTable table : tables) {
+            if (table == null) {
+                return null;
+            }
+        }
+        return new Catalog(tables, "pack");
+    }
+
+    // Reads the string table, or returns null if a count or length runs past the end of the pack
+    private static String[] readStrings(ByteBuffer pack, int offset) {
+        ByteBuffer buffer = pack.duplicate();
+        buffer.position(offset);
+        int count = buffer.getInt();
+        if (count < 0 || count > buffer.remaining() / 4) {
+            return null;
+        }
+        String[] strings = new String[count];
+        for (int i = 0; i < strings.length; i++) {
+            if (buffer.remaining() < 4) {
+                return null;
+            }
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                return null;
+            }
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            strings[i] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings;
+    }
+
+    // Checks that length bytes starting at offset lie inside the pack
+    private static boolean fits(ByteBuffer pack, int offset, int length) {
+        return offset >= 0 && length >= 0 && offset <= pack.capacity() - length;
+    }
+
+    // Checks that every record's name and text refer to entries of the string table
+    private static boolean stringIndicesValid(ByteBuffer pack, int offset, int recordCount, int stringCount) {
+        int recordBytes = DataTable.RECORD_INTS * 4;
+        for (int row = 0; row < recordCount; row++) {
+            int base = offset + row * recordBytes;
+            int name = pack.getInt(base);
+            int text = pack.getInt(base + recordBytes - 4);
+            if (name < 0 || name >= stringCount || text < -1 || text >= stringCount) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,118 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.IntBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Build-time tool that compiles the text data files into one binary data pack (see DataPack for the layout).
+ * Run it after editing anything under src/data; the game falls back to the text files whenever the
+ * pack is missing or older than its sources.
+ *
+ * Usage: java DataPackCompiler [dataDir] [packPath]
+ */
+public final class DataPackCompiler {
+    private final List<String> strings = new ArrayList<>();
+    private final Map<String, Integer> stringIndex = new HashMap<>();
+
+    public static void main(String[] args) throws IOException {
+        String dataDir = args.length > 0 ? args[0] : Catalog.DATA_DIR;
+        String packPath = args.length > 1 ? args[1] : Catalog.PACK_PATH;
+
+        Catalog catalog = Catalog.loadText(dataDir);
+        int bytes = new DataPackCompiler().write(catalog, dataDir, packPath);
+
+        int rows = 0;
+        for (DataFile file : DataFile.values()) {
+            rows += catalog.getTable(file).size();
+        }
+        System.out.println("Wrote " + packPath + ": " + DataFile.values().length + " tables, " + rows + " rows, " + bytes + " bytes");
+    }
+
+    /**
+     * Writes a catalog as a data pack. The pack is written to a temporary file and moved into place,
+     * so a running game never maps a half-written pack.
+     * @param catalog The catalog to write
+     * @param dataDir The directory holding the source text files, for their timestamps
+     * @param packPath Where to write the pack
+     * @return The size of the pack in bytes
+     * @throws IOException If the pack cannot be written
+     */
+    int write(Catalog catalog, String dataDir, String packPath) throws IOException {
+        DataFile[] files = DataFile.values();
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(records);
+        int[] recordCounts = new int[files.length];
+        int[] recordOffsets = new int[files.length];
+        int recordsStart = DataPack.HEADER_BYTES + files.length * DataPack.DIRECTORY_ENTRY_BYTES;
+
+        for (DataFile file : files) {
+            DataTable table = catalog.getTable(file);
+            IntBuffer source = table.getRecords();
+            recordCounts[file.ordinal()] = table.size();
+            recordOffsets[file.ordinal()] = recordsStart + recordOut.size();
+            for (int row = 0; row < table.size(); row++) {
+                // Re-point the string slots at the pack's shared string table
+                int base = row * DataTable.RECORD_INTS;
+                recordOut.writeInt(intern(table.getName(row)));
+                for (int i = 1; i < DataTable.RECORD_INTS - 1; i++) {
+                    recordOut.writeInt(source.get(base + i));
+                }
+                String text = table.getText(row);
+                recordOut.writeInt(text != null ? intern(text) : -1);
+            }
+        }
+
+        int[] fileNames = new int[files.length];
+        for (DataFile file : files) {
+            fileNames[file.ordinal()] = intern(file.getFileName());
+        }
+
+        ByteArrayOutputStream pack = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(pack);
+        out.writeInt(DataPack.MAGIC);
+        out.writeInt(DataPack.VERSION);
+        out.writeInt(files.length);
+        out.writeInt(recordsStart + records.size());
+        for (DataFile file : files) {
+            out.writeInt(fileNames[file.ordinal()]);
+            out.writeInt(recordCounts[file.ordinal()]);
+            out.writeInt(recordOffsets[file.ordinal()]);
+            out.writeInt(0);
+            out.writeLong(new File(dataDir, file.getFileName()).lastModified());
+        }
+        records.writeTo(out);
+        out.writeInt(strings.size());
+        for (String value : strings) {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            out.writeInt(bytes.length);
+            out.write(bytes);
+        }
+        out.flush();
+
+        Path target = Paths.get(packPath);
+        Path temp = Paths.get(packPath + ".tmp");
+        Files.write(temp, pack.toByteArray());
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return pack.size();
+    }
+
+    private int intern(String value) {
+        Integer index = stringIndex.get(value);
+        if (index == null) {
+            index = strings.size();
+            strings.add(value);
+            stringIndex.put(value, index);
+        }
+        return index;
+    }
+}
@@ -0,0 +1,110 @@
+import java.nio.IntBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * An immutable table of rows loaded from one data file.
+ * Rows are fixed-width records of RECORD_INTS ints: the name's string index, up to MAX_INT_COLUMNS
+ * integer columns, and the text column's string index (or -1). The records may live in a heap array
+ * or directly in a memory-mapped data pack; either way reading a row does no parsing.
+ */
+public final class DataTable {
+    public static final int MAX_INT_COLUMNS = 6;
+    public static final int RECORD_INTS = MAX_INT_COLUMNS + 2;
+
+    private static final int NAME_SLOT = 0;
+    private static final int TEXT_SLOT = RECORD_INTS - 1;
+
+    private final DataFile file;
+    private final IntBuffer records;
+    private final String[] strings;
+    private final int size;
+
+    /**
+     * Creates a table over existing records.
+     * @param file The data file the rows came from
+     * @param records The records, RECORD_INTS ints per row, starting at position 0
+     * @param strings The string table the records refer to
+     */
+    DataTable(DataFile file, IntBuffer records, String[] strings) {
+        this.file = file;
+        this.records = records;
+        this.strings = strings;
+        this.size = records.limit() / RECORD_INTS;
+    }
+
+    public DataFile getFile() { return file; }
+    public int size() { return size; }
+
+    public String getName(int row) {
+        return strings[records.get(row * RECORD_INTS + NAME_SLOT)];
+    }
+
+    /**
+     * Reads an integer column.
+     * @param row The row index
+     * @param column The integer column, counting from 0 after the name
+     * @return The column value
+     */
+    public int getInt(int row, int column) {
+        return records.get(row * RECORD_INTS + 1 + column);
+    }
+
+    /**
+     * Reads the trailing text column.
+     * @param row The row index
+     * @return The text, or null if the file has no text column
+     */
+    public String getText(int row) {
+        int index = records.get(row * RECORD_INTS + TEXT_SLOT);
+        return index >= 0 ? strings[index] : null;
+    }
+
+    IntBuffer getRecords() {
+        return records.duplicate();
+    }
+
+    /**
+     * Collects rows for a table that is built in memory rather than mapped from a pack.
+     */
+    static final class Builder {
+        private final DataFile file;
+        private final List<String> strings = new ArrayList<>();
+        private int[] records = new int[16 * RECORD_INTS];
+        private int size;
+
+        Builder(DataFile file) {
+            this.file = file;
+        }
+
+        /**
+         * Appends a row.
+         * @param name The row's name
+         * @param values The integer columns; only the first file.getIntColumns() entries are used
+         * @param text The text column, or null
+         */
+        void addRow(String name, int[] values, String text) {
+            if ((size + 1) * RECORD_INTS > records.length) {
+                records = Arrays.copyOf(records, records.length * 2);
+            }
+            int base = size * RECORD_INTS;
+            records[base + NAME_SLOT] = intern(name);
+            for (int i = 0; i < MAX_INT_COLUMNS; i++) {
+                records[base + 1 + i] = i < file.getIntColumns() ? values[i] : 0;
+            }
+            records[base + TEXT_SLOT] = text != null ? intern(text) : -1;
+            size++;
+        }
+
+        DataTable build() {
+            return new DataTable(file, IntBuffer.wrap(Arrays.copyOf(records, size * RECORD_INTS)),
+                    strings.toArray(new String[0]));
+        }
+
+        private int intern(String value) {
+            strings.add(value);
+            return strings.size() - 1;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A reusable byte-level tokenizer for the whitespace-delimited data file format.
+ * Tokens are separated by any run of spaces and tabs and rows end at '\n' ("\r\n" is accepted).
+ * Integers are decoded straight from the bytes; only tokens requested as strings allocate.
+ *
+ * Typical use:
+ * <pre>
+ * while (tokenizer.nextLine()) {
+ *     if (tokenizer.nextToken()) { String name = tokenizer.tokenAsString(); ... }
+ * }
+ * </pre>
+ */
+public final class DataTokenizer {
+    private ByteBuffer buffer;
+    private int position;
+    private int lineEnd;
+    private int nextLineStart;
+    private int limit;
+    private int tokenStart;
+    private int tokenEnd;
+    private byte[] scratch = new byte[64];
+
+    /**
+     * Points the tokenizer at new input, positioned before the first line.
+     * @param buffer The input; its position and limit bound the bytes that are read
+     * @return This tokenizer
+     */
+    public DataTokenizer reset(ByteBuffer buffer) {
+        this.buffer = buffer;
+        this.position = buffer.position();
+        this.limit = buffer.limit();
+        this.lineEnd = position;
+        this.nextLineStart = position;
+        this.tokenStart = position;
+        this.tokenEnd = position;
+        return this;
+    }
+
+    /**
+     * Advances to the next line. Any unread tokens on the current line are skipped.
+     * @return true if there is another line, false at the end of the input
+     */
+    public boolean nextLine() {
+        int start = nextLineStart;
+        if (start >= limit) {
+            position = limit;
+            lineEnd = limit;
+            return false;
+        }
+        int end = start;
+        while (end < limit && buffer.get(end) != '\n') {
+            end++;
+        }
+        position = start;
+        lineEnd = end;
+        nextLineStart = end + 1;
+        return true;
+    }
+
+    /**
+     * Moves to the next token on the current line.
+     * @return true if a token was found, false if the line has no more tokens
+     */
+    public boolean nextToken() {
+        int p = position;
+        while (p < lineEnd && isBlank(buffer.get(p))) {
+            p++;
+        }
+        if (p >= lineEnd) {
+            position = lineEnd;
+            return false;
+        }
+        tokenStart = p;
+        while (p < lineEnd && !isBlank(buffer.get(p))) {
+            p++;
+        }
+        tokenEnd = p;
+        position = p;
+        return true;
+    }
+
+    /**
+     * Decodes the current token as a decimal integer.
+     * @return The value
+     * @throws NumberFormatException If the token is not an integer
+     */
+    public int tokenAsInt() {
+        int p = tokenStart;
+        boolean negative = buffer.get(p) == '-';
+        if (negative || buffer.get(p) == '+') {
+            p++;
+        }
+        if (p >= tokenEnd) {
+            throw new NumberFormatException("For input string: \"" + tokenAsString() + "\"");
+        }
+        long value = 0;
+        for (; p < tokenEnd; p++) {
+            int digit = buffer.get(p) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new NumberFormatException("For input string: \"" + tokenAsString() + "\"");
+            }
+            value = value * 10 + digit;
+            if (value > (long) Integer.MAX_VALUE + 1) {
+                throw new NumberFormatException("For input string: \"" + tokenAsString() + "\"");
+            }
+        }
+        value = negative ? -value : value;
+        if (value > Integer.MAX_VALUE) {
+            throw new NumberFormatException("For input string: \"" + tokenAsString() + "\"");
+        }
+        return (int) value;
+    }
+
+    /**
+     * Decodes the current token as a UTF-8 string.
+     * @return The token text
+     */
+    public String tokenAsString() {
+        int length = tokenEnd - tokenStart;
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        for (int i = 0; i < length; i++) {
+            scratch[i] = buffer.get(tokenStart + i);
+        }
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    private static boolean isBlank(byte b) {
+        return b == ' ' || b == '\t' || b == '\r';
+    }
+}
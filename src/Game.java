@@ -70,6 +70,21 @@ public class Game {
         
         System.out.println("Game Over. Thank you for playing!");
     }
+
+    /**
+     * Ends the session: hands the heroes' store slots back and returns the monsters still on the board
+     * to the MonsterPool. The game must not be used afterwards.
+     */
+    public void release() {
+        for (Hero hero : heroes) {
+            hero.release();
+        }
+        for (Monster monster : monsters) {
+            MonsterPool.getInstance().release(monster);
+        }
+        heroes.clear();
+        monsters.clear();
+    }
     
     /**
      * Processes a player command outside of the turn system.
@@ -0,0 +1,73 @@
+/**
+ * Something that happened in the game that listeners may want to show or record, such as an attack,
+ * a level up or a move. Events only carry primitives, the characters involved, constant names and
+ * spell types, so publishing one never builds a message string; formatting is left to the listeners.
+ *
+ * The bus reuses one event object for every publication, so a listener must copy out anything it
+ * wants to keep rather than holding on to the event itself.
+ */
+public final class GameEvent {
+    /** The kinds of event the game publishes. */
+    public enum Type {
+        HERO_ATTACK,        // actor hero, target monster, amount damage, flag dodged
+        MONSTER_ATTACK,     // actor monster, target hero, amount damage, flag dodged
+        SPELL_CAST,         // actor hero, target monster, amount damage, name spell, spell type; detail area shape
+                            // when the target was caught in a spell aimed at another monster
+        SPELL_EFFECT,       // actor monster, spell type (null if none), amount reduction, value new stat value
+        LEVEL_UP,           // actor hero, amount new level
+        HEALED,             // actor hero, amount HP restored
+        MANA_RESTORED,      // actor hero, amount MP restored
+        STAT_GAINED,        // actor hero, amount gain, name stat
+        TERRAIN_ENTERED,    // actor hero, name boosted stat, detail terrain
+        TERRAIN_LEFT,       // actor hero, name boosted stat, detail terrain
+        MOVED,              // actor hero or monster, name direction
+        MOVE_REJECTED,      // actor hero, monster or null, detail reason
+        PATH_BLOCKED,       // actor monster stopped by an obstacle
+        TELEPORTED,         // actor hero, target hero teleported to
+        RECALLED,           // actor hero
+        HERO_DEFEATED,      // actor hero
+        HERO_RESPAWNED,     // actor hero
+        MONSTER_DEFEATED,   // actor monster, amount gold reward, value experience reward
+        NEXUS_REACHED,      // actor hero or monster that reached the opposing Nexus
+        OBSTACLE_REMOVED,   // actor hero, amount row, value column
+        EFFECT_EXPIRED,     // actor, amount size; spell type for a monster debuff, name stat for a hero boost
+        BURN_DAMAGE         // actor monster, amount damage
+    }
+
+    private Type type;
+    private Character actor;
+    private Character target;
+    private int amount;
+    private int value;
+    private boolean flag;
+    private String name;
+    private String detail;
+    private SpellType spellType;
+
+    GameEvent() {
+    }
+
+    // Overwrites every field so nothing leaks from the previous publication
+    void set(Type type, Character actor, Character target, int amount, int value, boolean flag,
+             String name, String detail, SpellType spellType) {
+        this.type = type;
+        this.actor = actor;
+        this.target = target;
+        this.amount = amount;
+        this.value = value;
+        this.flag = flag;
+        this.name = name;
+        this.detail = detail;
+        this.spellType = spellType;
+    }
+
+    public Type getType() { return type; }
+    public Character getActor() { return actor; }
+    public Character getTarget() { return target; }
+    public int getAmount() { return amount; }
+    public int getValue() { return value; }
+    public boolean getFlag() { return flag; }
+    public String getName() { return name; }
+    public String getDetail() { return detail; }
+    public SpellType getSpellType() { return spellType; }
+}
@@ -0,0 +1,193 @@
+/**
+ * Synchronous bus that game logic publishes its events on instead of printing them. Listeners are
+ * kept in a plain array that is replaced, never modified, when one registers or unregisters, so
+ * publishing is a loop over an array with no locking, reflection or allocation.
+ *
+ * With no listeners registered a publication returns straight away, which lets headless runs such
+ * as self-play skip all console formatting. By default the console renderer and the combat logger
+ * are registered, so an interactive game prints what it always has.
+ */
+public class GameEventBus {
+    private static final GameEventListener[] NONE = new GameEventListener[0];
+    private static GameEventBus instance;
+
+    private GameEventListener[] listeners;
+    private final GameEvent event = new GameEvent();
+    // Set while listeners are running; a publication from inside a listener gets its own event
+    private boolean dispatching;
+
+    private GameEventBus() {
+        listeners = new GameEventListener[] { new ConsoleEventRenderer(), CombatLogger.getInstance() };
+    }
+
+    /**
+     * Gets the singleton instance of GameEventBus
+     * @return The GameEventBus instance
+     */
+    public static GameEventBus getInstance() {
+        if (instance == null) {
+            instance = new GameEventBus();
+        }
+        return instance;
+    }
+
+    /**
+     * Adds a listener after the ones already registered.
+     * @param listener The listener to add
+     */
+    public void register(GameEventListener listener) {
+        GameEventListener[] updated = new GameEventListener[listeners.length + 1];
+        System.arraycopy(listeners, 0, updated, 0, listeners.length);
+        updated[listeners.length] = listener;
+        listeners = updated;
+    }
+
+    /**
+     * Removes a listener if it is registered.
+     * @param listener The listener to remove
+     */
+    public void unregister(GameEventListener listener) {
+        for (int i = 0; i < listeners.length; i++) {
+            if (listeners[i] == listener) {
+                GameEventListener[] updated = new GameEventListener[listeners.length - 1];
+                System.arraycopy(listeners, 0, updated, 0, i);
+                System.arraycopy(listeners, i + 1, updated, i, listeners.length - i - 1);
+                listeners = updated;
+                return;
+            }
+        }
+    }
+
+    /**
+     * Gets the registered listeners, e.g. to restore them after a headless run.
+     * @return A copy of the listener array
+     */
+    public GameEventListener[] getListeners() {
+        return listeners.clone();
+    }
+
+    /**
+     * Replaces every registered listener. Calling it with no arguments silences the bus.
+     * @param replacement The listeners to register, in dispatch order
+     */
+    public void setListeners(GameEventListener... replacement) {
+        listeners = replacement.length == 0 ? NONE : replacement.clone();
+    }
+
+    /**
+     * Checks whether anyone is listening, for callers that need to do extra work to build an event.
+     * @return true if at least one listener is registered
+     */
+    public boolean hasListeners() {
+        return listeners.length > 0;
+    }
+
+    /**
+     * Publishes an event that only involves one character.
+     * @param type The kind of event
+     * @param actor The character it happened to
+     */
+    public void publish(GameEvent.Type type, Character actor) {
+        publish(type, actor, null, 0, 0, false, null, null);
+    }
+
+    /**
+     * Publishes an event carrying one number, such as an amount healed.
+     * @param type The kind of event
+     * @param actor The character it happened to
+     * @param amount The number the event is about
+     */
+    public void publish(GameEvent.Type type, Character actor, int amount) {
+        publish(type, actor, null, amount, 0, false, null, null);
+    }
+
+    /**
+     * Publishes an event carrying a name and a detail, such as a move direction or a terrain.
+     * @param type The kind of event
+     * @param actor The character it happened to
+     * @param name The main name the event is about
+     * @param detail Further information, or null
+     */
+    public void publish(GameEvent.Type type, Character actor, String name, String detail) {
+        publish(type, actor, null, 0, 0, false, name, detail);
+    }
+
+    /**
+     * Publishes an attack by one character on another.
+     * @param type The kind of event
+     * @param actor The attacker
+     * @param target The character attacked
+     * @param amount The damage dealt
+     * @param flag Whether the attack was dodged
+     */
+    public void publish(GameEvent.Type type, Character actor, Character target, int amount, boolean flag) {
+        publish(type, actor, target, amount, 0, flag, null, null);
+    }
+
+    /**
+     * Publishes a spell cast or a spell's effect.
+     * @param type The kind of event
+     * @param actor The caster, or the monster the effect landed on
+     * @param target The monster the spell was cast on, or null
+     * @param amount The damage dealt or the attribute reduction
+     * @param value The attribute's new value, or 0
+     * @param spellType The spell's type
+     * @param name The spell's name, or null
+     */
+    public void publish(GameEvent.Type type, Character actor, Character target, int amount, int value,
+                        SpellType spellType, String name) {
+        dispatch(type, actor, target, amount, value, false, name, null, spellType);
+    }
+
+    /**
+     * Publishes a spell cast that hit a monster through the spell's area rather than as its target.
+     * @param type The kind of event
+     * @param actor The caster
+     * @param target The monster caught in the area
+     * @param amount The damage dealt
+     * @param value A second number, or 0
+     * @param spellType The spell's type
+     * @param name The spell's name
+     * @param area The area shape that caught the monster, such as "radius"
+     */
+    public void publish(GameEvent.Type type, Character actor, Character target, int amount, int value,
+                        SpellType spellType, String name, String area) {
+        dispatch(type, actor, target, amount, value, false, name, area, spellType);
+    }
+
+    /**
+     * Publishes an event to every listener in registration order.
+     * @param type The kind of event
+     * @param actor The character the event is about
+     * @param target The other character involved, or null
+     * @param amount The main number the event carries
+     * @param value A second number, or 0
+     * @param flag A yes/no detail of the event
+     * @param name The main name the event carries, or null
+     * @param detail Further information, or null
+     */
+    public void publish(GameEvent.Type type, Character actor, Character target, int amount, int value,
+                        boolean flag, String name, String detail) {
+        dispatch(type, actor, target, amount, value, flag, name, detail, null);
+    }
+
+    private void dispatch(GameEvent.Type type, Character actor, Character target, int amount, int value,
+                          boolean flag, String name, String detail, SpellType spellType) {
+        GameEventListener[] current = listeners;
+        if (current.length == 0) {
+            return;
+        }
+
+        boolean nested = dispatching;
+        GameEvent e = nested ? new GameEvent() : event;
+        e.set(type, actor, target, amount, value, flag, name, detail, spellType);
+        dispatching = true;
+        try {
+            for (GameEventListener listener : current) {
+                listener.onEvent(e);
+            }
+        } finally {
+            dispatching = nested;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+/**
+ * Receives the events published on the GameEventBus.
+ */
+public interface GameEventListener {
+    /**
+     * Handles one event. The event object is reused after this returns.
+     * @param event The event that happened
+     */
+    void onEvent(GameEvent event);
+}
@@ -20,6 +20,9 @@ public class GameManager {
             // Display game selection menu
             int gameChoice = selectGame();
             
+            // Both games need the data catalog; start loading it while the game is constructed
+            Catalog.preload();
+            
             switch (gameChoice) {
                 case MONSTERS_AND_HEROES:
                     playMonstersAndHeroes();
@@ -61,7 +64,11 @@ public class GameManager {
         
         // Create and start a new Monsters and Heroes game
         MonstersAndHeroesGame game = new MonstersAndHeroesGame();
-        game.start();
+        try {
+            game.start();
+        } finally {
+            game.release();  // Free the session's units so the next game starts from a clean store
+        }
     }
     
     /**
@@ -73,7 +80,11 @@ public class GameManager {
         
         // Create and start a new Legends of Valor game
         Game game = new Game();
-        game.start();
+        try {
+            game.start();
+        } finally {
+            game.release();  // Free the session's units so the next game starts from a clean store
+        }
     }
     
     /**
@@ -0,0 +1,275 @@
+import java.util.List;
+
+/**
+ * A compact, cheaply forkable snapshot of a Legends of Valor game.
+ * Unit stats and positions live in primitive arrays indexed by unit (heroes first, then monsters),
+ * terrain is a byte per cell and inventories are persistent lists. Forking copies only array
+ * references; an array is copied the first time either side writes to it after the fork.
+ */
+public final class GameState {
+    // Stat columns, one int per unit
+    public static final int HEALTH = 0;
+    public static final int MAX_HEALTH = 1;
+    public static final int MANA = 2;
+    public static final int MAX_MANA = 3;
+    public static final int STRENGTH = 4;
+    public static final int DEXTERITY = 5;
+    public static final int AGILITY = 6;
+    public static final int LEVEL = 7;
+    public static final int ROW = 8;
+    public static final int COL = 9;
+    public static final int DAMAGE = 10;        // Monster base damage
+    public static final int DEFENSE = 11;       // Monster defense
+    public static final int DODGE = 12;         // Monster dodge chance in percent
+    public static final int WEAPON_DAMAGE = 13; // Hero weapon damage from equipped weapons
+    public static final int ARMOR = 14;         // Hero damage reduction from equipped armor
+    public static final int GOLD = 15;
+    public static final int NEXUS_ROW = 16;
+    public static final int NEXUS_COL = 17;
+    private static final int STAT_COUNT = 18;
+
+    // Terrain codes, one byte per cell
+    public static final byte PLAIN = 0;
+    public static final byte BUSH = 1;
+    public static final byte CAVE = 2;
+    public static final byte KOULOU = 3;
+    public static final byte OBSTACLE = 4;
+    public static final byte INACCESSIBLE = 5;
+    public static final byte HERO_NEXUS = 6;
+    public static final byte MONSTER_NEXUS = 7;
+
+    private final int heroCount;
+    private final int monsterCount;
+    private final int rows;
+    private final int cols;
+
+    private int[][] stats;
+    private byte[] terrain;
+    private PersistentInventory[] inventories;
+    private PersistentInventory[] learnedSpells;
+    private int round;
+
+    // Bit i set means stats[i] is private to this state; TERRAIN_BIT and INVENTORY_BIT cover the rest
+    private long owned;
+    private static final long TERRAIN_BIT = 1L << STAT_COUNT;
+    private static final long INVENTORY_BIT = 1L << (STAT_COUNT + 1);
+    private static final long ALL_OWNED = (1L << (STAT_COUNT + 2)) - 1;
+
+    private GameState(int heroCount, int monsterCount, int rows, int cols) {
+        this.heroCount = heroCount;
+        this.monsterCount = monsterCount;
+        this.rows = rows;
+        this.cols = cols;
+    }
+
+    /**
+     * Captures the current state of a running game.
+     * @param heroes The heroes in the game
+     * @param monsters The monsters in the game
+     * @param grid The game board
+     * @param round The current round number
+     * @return A new state that owns all of its data
+     */
+    public static GameState capture(List<Hero> heroes, List<Monster> monsters, Space[][] grid, int round) {
+        int rows = grid.length;
+        int cols = rows > 0 ? grid[0].length : 0;
+        GameState state = new GameState(heroes.size(), monsters.size(), rows, cols);
+        int units = heroes.size() + monsters.size();
+
+        state.stats = new int[STAT_COUNT][units];
+        state.inventories = new PersistentInventory[heroes.size()];
+        state.learnedSpells = new PersistentInventory[heroes.size()];
+        state.round = round;
+
+        for (int i = 0; i < heroes.size(); i++) {
+            Hero hero = heroes.get(i);
+            int[][] s = state.stats;
+            s[HEALTH][i] = hero.getCurrentHealth();
+            s[MAX_HEALTH][i] = hero.getHealthPoints();
+            s[MANA][i] = hero.getCurrentMana();
+            s[MAX_MANA][i] = hero.getManaPoints();
+            s[STRENGTH][i] = hero.getCurrentStrength();
+            s[DEXTERITY][i] = hero.getCurrentDexterity();
+            s[AGILITY][i] = hero.getCurrentAgility();
+            s[LEVEL][i] = hero.getLevel();
+            s[ROW][i] = hero.getHeroRow();
+            s[COL][i] = hero.getHeroCol();
+            s[WEAPON_DAMAGE][i] = hero.getInventory().useWeapon();
+            s[ARMOR][i] = hero.getInventory().useArmor();
+            s[GOLD][i] = hero.getGold();
+            s[NEXUS_ROW][i] = hero.getNexus()[0];
+            s[NEXUS_COL][i] = hero.getNexus()[1];
+            state.inventories[i] = PersistentInventory.of(hero.getInventory().getItems());
+            state.learnedSpells[i] = PersistentInventory.of(hero.getLearnedSpells());
+        }
+
+        for (int m = 0; m < monsters.size(); m++) {
+            Monster monster = monsters.get(m);
+            int u = heroes.size() + m;
+            int[][] s = state.stats;
+            s[HEALTH][u] = monster.getCurrentHealth();
+            s[MAX_HEALTH][u] = monster.getHealthPoints();
+            s[LEVEL][u] = monster.getLevel();
+            s[ROW][u] = monster.getMonsterRow();
+            s[COL][u] = monster.getMonsterCol();
+            s[DAMAGE][u] = monster.getBaseDamage();
+            s[DEFENSE][u] = monster.getBaseDefense();
+            s[DODGE][u] = (int) Math.round(monster.getDodgeChance() * 100);
+        }
+
+        state.terrain = new byte[rows * cols];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < cols; c++) {
+                state.terrain[r * cols + c] = terrainCode(grid[r][c]);
+            }
+        }
+
+        state.owned = ALL_OWNED;
+        return state;
+    }
+
+    /**
+     * Creates a child state that shares all data with this one until either side writes.
+     * Costs a handful of reference copies regardless of game size.
+     * @return The forked state
+     */
+    public GameState fork() {
+        GameState child = new GameState(heroCount, monsterCount, rows, cols);
+        child.stats = stats.clone();
+        child.terrain = terrain;
+        child.inventories = inventories;
+        child.learnedSpells = learnedSpells;
+        child.round = round;
+
+        // Both sides now share every array, so neither may write in place
+        child.owned = 0;
+        owned = 0;
+        return child;
+    }
+
+    /**
+     * Reads one stat of one unit.
+     * @param stat The stat column, e.g. HEALTH
+     * @param unit The unit index (heroes first, then monsters)
+     * @return The stat value
+     */
+    public int get(int stat, int unit) {
+        return stats[stat][unit];
+    }
+
+    /**
+     * Writes one stat of one unit, copying the stat column first if it is still shared.
+     * @param stat The stat column, e.g. HEALTH
+     * @param unit The unit index (heroes first, then monsters)
+     * @param value The new value
+     */
+    public void set(int stat, int unit, int value) {
+        long bit = 1L << stat;
+        if ((owned & bit) == 0) {
+            stats[stat] = stats[stat].clone();
+            owned |= bit;
+        }
+        stats[stat][unit] = value;
+    }
+
+    /**
+     * Adds to one stat of one unit.
+     * @param stat The stat column
+     * @param unit The unit index
+     * @param delta The amount to add
+     */
+    public void add(int stat, int unit, int delta) {
+        set(stat, unit, stats[stat][unit] + delta);
+    }
+
+    public boolean isAlive(int unit) {
+        return stats[HEALTH][unit] > 0;
+    }
+
+    public byte getTerrain(int row, int col) {
+        return terrain[row * cols + col];
+    }
+
+    /**
+     * Changes the terrain of one cell, copying the terrain array first if it is still shared.
+     * @param row The cell row
+     * @param col The cell column
+     * @param code The new terrain code
+     */
+    public void setTerrain(int row, int col, byte code) {
+        if ((owned & TERRAIN_BIT) == 0) {
+            terrain = terrain.clone();
+            owned |= TERRAIN_BIT;
+        }
+        terrain[row * cols + col] = code;
+    }
+
+    public PersistentInventory getInventory(int hero) {
+        return inventories[hero];
+    }
+
+    /**
+     * Replaces a hero's inventory. The persistent lists themselves are never copied.
+     * @param hero The hero index
+     * @param inventory The new inventory
+     */
+    public void setInventory(int hero, PersistentInventory inventory) {
+        if ((owned & INVENTORY_BIT) == 0) {
+            inventories = inventories.clone();
+            owned |= INVENTORY_BIT;
+        }
+        inventories[hero] = inventory;
+    }
+
+    public PersistentInventory getLearnedSpells(int hero) {
+        return learnedSpells[hero];
+    }
+
+    /**
+     * Checks whether a cell is on the board and can be entered.
+     * @param row The cell row
+     * @param col The cell column
+     * @return true if the cell is in bounds and neither inaccessible nor an obstacle
+     */
+    public boolean isPassable(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return false;
+        }
+        byte code = terrain[row * cols + col];
+        return code != INACCESSIBLE && code != OBSTACLE;
+    }
+
+    /**
+     * Finds the living unit standing on a cell.
+     * @param row The cell row
+     * @param col The cell column
+     * @return The unit index, or -1 if the cell is empty
+     */
+    public int unitAt(int row, int col) {
+        int[] rowStat = stats[ROW];
+        int[] colStat = stats[COL];
+        int[] health = stats[HEALTH];
+        for (int u = 0; u < rowStat.length; u++) {
+            if (rowStat[u] == row && colStat[u] == col && health[u] > 0) {
+                return u;
+            }
+        }
+        return -1;
+    }
+
+    public int getHeroCount() { return heroCount; }
+    public int getMonsterCount() { return monsterCount; }
+    public int getUnitCount() { return heroCount + monsterCount; }
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public int getRound() { return round; }
+    public void setRound(int round) { this.round = round; }
+
+    public boolean isHero(int unit) {
+        return unit < heroCount;
+    }
+
+    private static byte terrainCode(Space space) {
+        return space != null ? space.getTerrainCode() : INACCESSIBLE;
+    }
+}
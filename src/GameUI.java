@@ -157,52 +157,36 @@ public class GameUI {
      * @param inventory The inventory to display
      */
     private void displayInventoryItems(Inventory inventory) {
-        List<Item> items = inventory.getItems();
-        if (items.isEmpty()) {
+        if (inventory.getItemCount() == 0) {
             System.out.println("Inventory is empty");
             return;
         }
         
         // Group items by type
         System.out.println("Weapons:");
-        boolean hasWeapons = false;
-        for (Item item : items) {
-            if (item instanceof Weapon) {
-                Weapon weapon = (Weapon) item;
-                System.out.println("  • " + weapon.getName() + " (Damage: " + weapon.getDamage() + 
-                        ", Hands: " + weapon.getRequiredHands() + ", Level: " + item.getLevelRequirement() + ")");
-                hasWeapons = true;
-            }
+        for (Weapon weapon : inventory.getWeapons()) {
+            System.out.println("  • " + weapon.getName() + " (Damage: " + weapon.getDamage() + 
+                    ", Hands: " + weapon.getRequiredHands() + ", Level: " + weapon.getLevelRequirement() + ")");
         }
-        if (!hasWeapons) {
+        if (inventory.getWeaponCount() == 0) {
             System.out.println("  None");
         }
         
         System.out.println("Armor:");
-        boolean hasArmor = false;
-        for (Item item : items) {
-            if (item instanceof Armor) {
-                Armor armor = (Armor) item;
-                System.out.println("  • " + armor.getName() + " (Defense: " + armor.getDamageReduction() + 
-                        ", Level: " + item.getLevelRequirement() + ")");
-                hasArmor = true;
-            }
+        for (Armor armor : inventory.getArmors()) {
+            System.out.println("  • " + armor.getName() + " (Defense: " + armor.getDamageReduction() + 
+                    ", Level: " + armor.getLevelRequirement() + ")");
         }
-        if (!hasArmor) {
+        if (inventory.getArmorCount() == 0) {
             System.out.println("  None");
         }
         
         System.out.println("Potions:");
-        boolean hasPotions = false;
-        for (Item item : items) {
-            if (item instanceof Potion) {
-                Potion potion = (Potion) item;
-                System.out.println("  • " + potion.getName() + " (+" + potion.getAttributeIncrease() + " " + 
-                        potion.getAttributeAffected() + ", Level: " + item.getLevelRequirement() + ")");
-                hasPotions = true;
-            }
+        for (Potion potion : inventory.getPotions()) {
+            System.out.println("  • " + potion.getName() + " x" + inventory.getStackCount(potion.getName()) + " (+" + potion.getAttributeIncrease() + " " + 
+                    potion.getAttributeAffected() + ", Level: " + potion.getLevelRequirement() + ")");
         }
-        if (!hasPotions) {
+        if (inventory.getPotionCount() == 0) {
             System.out.println("  None");
         }
     }
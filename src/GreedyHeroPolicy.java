@@ -0,0 +1,225 @@
+import java.util.List;
+
+/**
+ * A simple bot that always takes the locally best-looking option: push toward the monsters'
+ * Nexus, attack the weakest monster in range, cast the strongest affordable spell, heal when
+ * low and buy the best gear it can afford.
+ */
+public class GreedyHeroPolicy implements HeroPolicy {
+    // Turn order preference when several directions are open, best first
+    private static final String[] DIRECTION_PREFERENCE = {"w", "a", "d", "s"};
+
+    @Override
+    public String chooseAction(Hero hero, List<String> actions, List<Monster> monstersInRange) {
+        if (!monstersInRange.isEmpty() && actions.contains("Attack")) {
+            if (healthRatio(hero) < 0.3 && actions.contains("Use Potion") && findPotion(hero, "Health") != null) {
+                return "Use Potion";
+            }
+            if (actions.contains("Cast Spell") && hasCastableSpell(hero)) {
+                return "Cast Spell";
+            }
+            return "Attack";
+        }
+
+        if (actions.contains("Change Weapon/Armor") && findUpgrade(hero, hero.getInventory().getEquippableItems()) != null) {
+            return "Change Weapon/Armor";
+        }
+        if (actions.contains("Shop") && needsGear(hero)) {
+            return "Shop";
+        }
+        if (healthRatio(hero) < 0.5 && actions.contains("Use Potion") && findPotion(hero, "Health") != null) {
+            return "Use Potion";
+        }
+        return actions.contains("Move") ? "Move" : null;
+    }
+
+    @Override
+    public String chooseDirection(Hero hero, List<String> directions, List<Monster> monsters) {
+        for (String direction : DIRECTION_PREFERENCE) {
+            if (directions.contains(direction)) {
+                return direction;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Monster chooseTarget(Hero hero, List<Monster> targets) {
+        Monster weakest = null;
+        for (Monster monster : targets) {
+            if (monster.isAlive() && (weakest == null || monster.getCurrentHealth() < weakest.getCurrentHealth())) {
+                weakest = monster;
+            }
+        }
+        return weakest;
+    }
+
+    @Override
+    public Spell chooseSpell(Hero hero, List<Spell> spells, Monster target) {
+        Spell strongest = null;
+        for (Spell spell : spells) {
+            if (spell.getManaCost() <= hero.getCurrentMana()
+                    && (strongest == null || spell.getDamage() > strongest.getDamage())) {
+                strongest = spell;
+            }
+        }
+        return strongest;
+    }
+
+    @Override
+    public Potion choosePotion(Hero hero, List<Potion> potions) {
+        Potion best = null;
+        boolean wantsHealth = healthRatio(hero) < 0.5;
+        for (Potion potion : potions) {
+            boolean restoresHealth = potion.getAttributeAffected().equalsIgnoreCase("Health");
+            if (wantsHealth && !restoresHealth) {
+                continue;
+            }
+            if (best == null || potion.getAttributeIncrease() > best.getAttributeIncrease()) {
+                best = potion;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Item chooseItemToBuy(Hero hero, List<Item> stock) {
+        Inventory inventory = hero.getInventory();
+        boolean hasWeapon = inventory.getEquippedWeapon() != null || inventory.getWeaponCount() > 0;
+        boolean hasArmor = inventory.getEquippedArmor() != null || inventory.getArmorCount() > 0;
+
+        if (!hasWeapon) {
+            return mostExpensive(stock, Weapon.class);
+        }
+        if (!hasArmor) {
+            return mostExpensive(stock, Armor.class);
+        }
+        if (findPotion(hero, "Health") == null) {
+            return mostExpensive(stock, Potion.class);
+        }
+        return null;
+    }
+
+    @Override
+    public Item chooseEquipment(Hero hero, List<Item> equippable) {
+        return findUpgrade(hero, equippable);
+    }
+
+    /**
+     * Returns the weapon or armor in a list that improves most on what the hero has equipped.
+     * @param hero The hero to check
+     * @param equippable Candidate items
+     * @return The best upgrade, or null if nothing beats the current equipment
+     */
+    protected Item findUpgrade(Hero hero, List<Item> equippable) {
+        Inventory inventory = hero.getInventory();
+        int equippedDamage = inventory.getEquippedWeapon() != null ? inventory.getEquippedWeapon().getDamage() : 0;
+        int equippedReduction = inventory.getEquippedArmor() != null ? inventory.getEquippedArmor().getDamageReduction() : 0;
+
+        Item best = null;
+        int bestGain = 0;
+        for (Item item : equippable) {
+            if (item.getLevelRequirement() > hero.getLevel()) {
+                continue;
+            }
+            int gain = 0;
+            if (item instanceof Weapon && inventory.getCurrentWeapon().size() < 2) {
+                gain = ((Weapon) item).getDamage() - equippedDamage;
+            } else if (item instanceof Armor && inventory.getEquippedArmor() == null) {
+                gain = ((Armor) item).getDamageReduction() - equippedReduction;
+            }
+            if (gain > bestGain) {
+                bestGain = gain;
+                best = item;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Estimates the damage a hero's basic attack deals to a monster, accounting for dodge.
+     * Mirrors the formula in Hero.attack.
+     * @param hero The attacking hero
+     * @param monster The target monster
+     * @return The expected damage of one attack
+     */
+    protected double expectedAttackDamage(Hero hero, Monster monster) {
+        int weaponDamage = hero.getInventory().useWeapon();
+        double damage = (int) (hero.getCurrentStrength() * 0.05 * (weaponDamage > 0 ? weaponDamage : 1));
+        return damage * (1 - monster.getDodgeChance());
+    }
+
+    /**
+     * Estimates the damage a monster's attack deals to a hero, accounting for armor and dodge.
+     * Mirrors the formula in Monster.attack.
+     * @param monster The attacking monster
+     * @param hero The target hero
+     * @return The expected damage of one attack
+     */
+    protected double expectedDamageTaken(Monster monster, Hero hero) {
+        double damage = Math.max(monster.getLevel() * monster.getBaseDamage() * 0.1 - hero.getInventory().useArmor(), 0);
+        double dodgeChance = Math.min(hero.getCurrentAgility() * 0.002, 1.0);
+        return (int) damage * (1 - dodgeChance);
+    }
+
+    /**
+     * Finds the strongest potion in a hero's inventory affecting an attribute.
+     * @param hero The hero to search
+     * @param attribute The attribute name, e.g. Health
+     * @return The matching potion, or null if there is none
+     */
+    protected Potion findPotion(Hero hero, String attribute) {
+        Potion best = null;
+        for (Potion potion : hero.getInventory().getPotions()) {
+            if (potion.getAttributeAffected().equalsIgnoreCase(attribute)
+                    && (best == null || potion.getAttributeIncrease() > best.getAttributeIncrease())) {
+                best = potion;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Returns the highest damage spell the hero knows or carries and can afford to cast.
+     * @param hero The hero to check
+     * @return The best castable spell, or null if there is none
+     */
+    protected Spell bestCastableSpell(Hero hero) {
+        Spell best = null;
+        for (Spell spell : hero.getLearnedSpells()) {
+            if (spell.getManaCost() <= hero.getCurrentMana() && (best == null || spell.getDamage() > best.getDamage())) {
+                best = spell;
+            }
+        }
+        for (Spell spell : hero.getInventory().getSpells()) {
+            if (spell.getManaCost() <= hero.getCurrentMana() && (best == null || spell.getDamage() > best.getDamage())) {
+                best = spell;
+            }
+        }
+        return best;
+    }
+
+    protected boolean hasCastableSpell(Hero hero) {
+        return bestCastableSpell(hero) != null;
+    }
+
+    protected double healthRatio(Hero hero) {
+        return hero.getHealthPoints() > 0 ? (double) hero.getCurrentHealth() / hero.getHealthPoints() : 0;
+    }
+
+    private boolean needsGear(Hero hero) {
+        Inventory inventory = hero.getInventory();
+        return (inventory.getEquippedWeapon() == null && inventory.getWeaponCount() == 0)
+                || (inventory.getEquippedArmor() == null && inventory.getArmorCount() == 0);
+    }
+
+    private Item mostExpensive(List<Item> stock, Class<? extends Item> type) {
+        Item best = null;
+        for (Item item : stock) {
+            if (type.isInstance(item) && (best == null || item.getCost() > best.getCost())) {
+                best = item;
+            }
+        }
+        return best;
+    }
+}
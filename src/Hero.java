@@ -10,29 +10,19 @@ import java.util.ArrayList;
 
 
 public class Hero extends Character implements Attackable<Monster> {
-    protected String name;
+    private static final int POTION_ROUNDS = 5;  // How long a stat potion's boost lasts
+
     protected String heroClass;
     protected int experience;
     protected int gold;
-    protected int level;
     private String heroIdentifier;
-    // Base attributes
-    protected int healthPoints;
-    protected int manaPoints;
-    protected int strength;
-    protected int dexterity;
-    protected int agility;
-
-    // Current attributes
-    protected int currentHealth;
-    protected int currentMana;
-    protected int currentStrength;
-    protected int currentDexterity;
-    protected int currentAgility;
+    // Base and current health, mana, strength, dexterity and agility live in the UnitStore.
+    // Current strength, dexterity and agility are base plus modifiers, cached in the store and
+    // refreshed whenever the modifiers' version moves on.
+    private final StatModifiers modifiers = new StatModifiers();
+    private int statsVersion = -1;
 
     private Inventory inventory;
-    private int heroRow;
-    private int heroCol;
     private List<Spell> learnedSpells; // List of permanently learned spells
 
      /*
@@ -42,13 +32,8 @@ public class Hero extends Character implements Attackable<Monster> {
 
     public Hero(String name, String heroClass, int manaPoints, int strength, int agility, int dexterity, int gold, int experience) {
         super(name, 1);
-        this.level = 1;
         this.heroClass = heroClass;
-        this.healthPoints = 100;
-        this.manaPoints = manaPoints;
-        this.strength = strength;
-        this.dexterity = dexterity;
-        this.agility = agility;
+        setBaseAttributes(100, manaPoints, strength, dexterity, agility);
         this.gold = gold;
         this.experience = experience;
         this.inventory = new Inventory();
@@ -60,34 +45,22 @@ public class Hero extends Character implements Attackable<Monster> {
 
     public Hero(String name, String heroClass) {
         super(name, 1);
-        this.level = 1;
         this.gold = 2000;
         this.heroClass = heroClass;
         this.experience = 0;
         this.inventory = new Inventory();
+        this.learnedSpells = new ArrayList<>();
 
         // Set default attributes based on hero type
         switch (heroClass.toLowerCase()) {
             case "warrior":
-                this.healthPoints = 100;
-                this.manaPoints = 500;
-                this.strength = 750;
-                this.dexterity = 500;
-                this.agility = 750;
+                setBaseAttributes(100, 500, 750, 500, 750);
                 break;
             case "sorcerer":
-                this.healthPoints = 100;
-                this.manaPoints = 700;
-                this.strength = 500;
-                this.dexterity = 750;
-                this.agility = 750;
+                setBaseAttributes(100, 700, 500, 750, 750);
                 break;
             case "paladin":
-                this.healthPoints = 100;
-                this.manaPoints = 500;
-                this.strength = 750;
-                this.dexterity = 750;
-                this.agility = 500;
+                setBaseAttributes(100, 500, 750, 750, 500);
                 break;
             default:
                 throw new IllegalArgumentException("Invalid hero type: " + heroClass);
@@ -95,129 +68,161 @@ public class Hero extends Character implements Attackable<Monster> {
         resetCurrentAttributes();
     }
 
-    // Resets current attributes to base values
+    private void setBaseAttributes(int healthPoints, int manaPoints, int strength, int dexterity, int agility) {
+        store.maxHealth[id] = healthPoints;
+        store.maxMana[id] = manaPoints;
+        store.baseStrength[id] = strength;
+        store.baseDexterity[id] = dexterity;
+        store.baseAgility[id] = agility;
+    }
+
+    // Restores health and mana and drops potion and spell boosts. Terrain and level bonuses stay.
     public void resetCurrentAttributes() {
-        this.currentHealth = healthPoints;
-        this.currentMana = manaPoints;
-        this.currentStrength = strength;
-        this.currentDexterity = dexterity;
-        this.currentAgility = agility;
+        store.setHealth(id, store.maxHealth[id]);
+        store.mana[id] = store.maxMana[id];
+        resetTemporaryAttributes();
     }
 
     // Level-up method
     public void levelUp() {
 
         resetCurrentAttributes(); // Restore to full health and mana on level up
-        if(level == 10){ //Max level is 10
+        if(store.level[id] == 10){ //Max level is 10
             return;
         }
-        level++;
-        System.out.println(this.getName() + " leveled up to " + level + "!");
-        healthPoints += 100;
-        manaPoints = (int) Math.ceil(manaPoints * 1.1);
+        int level = ++store.level[id];
+        GameEventBus.getInstance().publish(GameEvent.Type.LEVEL_UP, this, level);
+        store.maxHealth[id] += 100;
+        store.maxMana[id] = (int) Math.ceil(store.maxMana[id] * 1.1);
 
         switch (heroClass.toLowerCase()) {
             case "warrior":
-                strength += (int) Math.ceil(strength * 0.1);
-                dexterity += (int) Math.ceil(dexterity * 0.05);
-                agility += (int) Math.ceil(agility * 0.1);
+                levelBonus(0.1, 0.05, 0.1);
                 break;
             case "sorcerer":
-                strength += (int) Math.ceil(strength * 0.05);
-                dexterity += (int) Math.ceil(dexterity * 0.1);
-                agility += (int) Math.ceil(agility * 0.1);
+                levelBonus(0.05, 0.1, 0.1);
                 break;
             case "paladin":
-                strength += (int) Math.ceil(strength * 0.1);
-                dexterity += (int) Math.ceil(dexterity * 0.1);
-                agility += (int) Math.ceil(agility * 0.05);
+                levelBonus(0.1, 0.1, 0.05);
                 break;
         }
         resetCurrentAttributes();
     }
 
+    // Grows the permanent attributes by a fraction of their current value
+    private void levelBonus(double strength, double dexterity, double agility) {
+        modifiers.add(StatModifiers.Source.LEVEL, StatModifiers.Stat.STRENGTH, (int) Math.ceil(getStrength() * strength));
+        modifiers.add(StatModifiers.Source.LEVEL, StatModifiers.Stat.DEXTERITY, (int) Math.ceil(getDexterity() * dexterity));
+        modifiers.add(StatModifiers.Source.LEVEL, StatModifiers.Stat.AGILITY, (int) Math.ceil(getAgility() * agility));
+    }
+
     public void gainExperience(int xp) {
         experience += xp;
-        if (experience >= level * 10) {
+        if (experience >= getLevel() * 10) {
             levelUp();
         }
     }
 
     public void reduceMana(int manaCost) {
-        currentMana = Math.max(currentMana - manaCost, 0);
-    }
-    @Override
-    public void takeDamage(int damage) {
-        currentHealth = Math.max(currentHealth - damage, 0);
-    }
-
-
-    @Override
-    public boolean isAlive(){
-        return currentHealth > 0;
+        store.mana[id] = Math.max(store.mana[id] - manaCost, 0);
     }
 
     public void revive() {
-        currentHealth = (int) Math.ceil(healthPoints * 0.5);
-        currentMana = (int) Math.ceil(manaPoints * 0.5);
+        store.setHealth(id, (int) Math.ceil(store.maxHealth[id] * 0.5));
+        store.mana[id] = (int) Math.ceil(store.maxMana[id] * 0.5);
     }
 
     // restore some health and mana each turn
     public void restorePerTurn(){
-        increaseHealth((int) (healthPoints*0.1));
-        increaseMana((int) (manaPoints*0.1));
+        increaseHealth((int) (store.maxHealth[id]*0.1));
+        increaseMana((int) (store.maxMana[id]*0.1));
     }
 
 
     // Increase attribute methods with checks to not exceed base values
     public void increaseHealth(int increase) {
-        if (currentHealth != healthPoints) {
-            System.out.println(this.getName() + " heals " + increase + " HP");
-            currentHealth = Math.min(currentHealth + increase, healthPoints);
+        if (store.health[id] != store.maxHealth[id]) {
+            GameEventBus.getInstance().publish(GameEvent.Type.HEALED, this, increase);
+            store.setHealth(id, Math.min(store.health[id] + increase, store.maxHealth[id]));
         }
     }
 
     public void increaseMana(int increase) {
-        if (currentMana != manaPoints) {
-            System.out.println(this.getName() + " restores " + increase + " MP");
-            currentMana = Math.min(currentMana + increase, manaPoints);
+        if (store.mana[id] != store.maxMana[id]) {
+            GameEventBus.getInstance().publish(GameEvent.Type.MANA_RESTORED, this, increase);
+            store.mana[id] = Math.min(store.mana[id] + increase, store.maxMana[id]);
         }
     }
 
+    // Potion boosts wear off after POTION_ROUNDS rounds, or earlier if the temporary attributes are reset
     public void increaseStrength(int increase) {
-        currentStrength += increase;
-        System.out.println(this.getName() + " gains " + increase + " strength");
+        boost(StatModifiers.Stat.STRENGTH, increase);
     }
 
     public void increaseDexterity(int increase) {
-        currentDexterity += increase;
-        System.out.println(this.getName() + " gains " + increase + " dexterity");
+        boost(StatModifiers.Stat.DEXTERITY, increase);
     }
 
     public void increaseAgility(int increase) {
-        currentAgility += increase;
-        System.out.println(this.getName() + " gains " + increase + " agility");
+        boost(StatModifiers.Stat.AGILITY, increase);
+    }
+
+    private void boost(StatModifiers.Stat stat, int increase) {
+        addModifier(StatModifiers.Source.POTION, stat, increase);
+        StatusEffects.getInstance().addStatBoost(this, stat, increase, POTION_ROUNDS);
+        GameEventBus.getInstance().publish(GameEvent.Type.STAT_GAINED, this, null, increase, 0, false, stat.getLabel(), null);
+    }
+
+    /**
+     * Applies a stat modifier from a source.
+     * @param source Where the modifier comes from
+     * @param stat The attribute it changes
+     * @param amount The change, negative for a penalty
+     */
+    public void addModifier(StatModifiers.Source source, StatModifiers.Stat stat, int amount) {
+        modifiers.add(source, stat, amount);
+    }
+
+    /**
+     * Removes every modifier from a source, e.g. the terrain bonus when a hero leaves a space.
+     * @param source The source to clear
+     */
+    public void clearModifiers(StatModifiers.Source source) {
+        modifiers.clear(source);
+    }
+
+    public StatModifiers getModifiers() {
+        return modifiers;
     }
 
-    // Resets temporary attribute boosts to base values after battle
+    // Removes temporary potion and spell boosts after battle
     public void resetTemporaryAttributes() {
-        currentStrength = strength;
-        currentDexterity = dexterity;
-        currentAgility = agility;
+        StatusEffects.getInstance().cancelAll(this);  // Their expiry would otherwise take the boosts off twice
+        modifiers.clear(StatModifiers.Source.POTION);
+        modifiers.clear(StatModifiers.Source.SPELL);
+    }
+
+    // Writes base plus modifiers into the store if the modifiers changed since the last read
+    private void refreshStats() {
+        int version = modifiers.getVersion();
+        if (version != statsVersion) {
+            store.strength[id] = store.baseStrength[id] + modifiers.getTotal(StatModifiers.Stat.STRENGTH);
+            store.dexterity[id] = store.baseDexterity[id] + modifiers.getTotal(StatModifiers.Stat.DEXTERITY);
+            store.agility[id] = store.baseAgility[id] + modifiers.getTotal(StatModifiers.Stat.AGILITY);
+            statsVersion = version;
+        }
     }
 
-    // Getters for base and current attributes
-    public int getHealthPoints() { return healthPoints; }
-    public int getManaPoints() { return manaPoints; }
-    public int getStrength() { return strength; }
-    public int getDexterity() { return dexterity; }
-    public int getAgility() { return agility; }
+    // Getters for base and current attributes. Base attributes include level-up gains.
+    public int getStrength() { return store.baseStrength[id] + modifiers.get(StatModifiers.Source.LEVEL, StatModifiers.Stat.STRENGTH); }
+    public int getDexterity() { return store.baseDexterity[id] + modifiers.get(StatModifiers.Source.LEVEL, StatModifiers.Stat.DEXTERITY); }
+    public int getAgility() { return store.baseAgility[id] + modifiers.get(StatModifiers.Source.LEVEL, StatModifiers.Stat.AGILITY); }
 
-    public int getCurrentHealth() { return currentHealth;  }
-    public int getCurrentMana() { return currentMana; }
-    public int getCurrentStrength() { return currentStrength; }
-    public int getCurrentDexterity() { return currentDexterity; }
-    public int getCurrentAgility() { return currentAgility; }
+    public int getCurrentHealth() { return store.health[id];  }
+    public int getCurrentMana() { return store.mana[id]; }
+    public int getCurrentStrength() { refreshStats(); return store.strength[id]; }
+    public int getCurrentDexterity() { refreshStats(); return store.dexterity[id]; }
+    public int getCurrentAgility() { refreshStats(); return store.agility[id]; }
 
 
     public Inventory getInventory() {
@@ -250,20 +255,32 @@ public class Hero extends Character implements Attackable<Monster> {
         
         // Check if monster dodges
         if (random.nextDouble() < dodgeChance) {
-            // Use CombatLogger for the dodge message
-            CombatLogger.getInstance().logHeroAttack(this, monster, 0, true);
+            GameEventBus.getInstance().publish(GameEvent.Type.HERO_ATTACK, this, monster, 0, true);
             return;
         }
         
-        // Calculate damage based on hero's strength and weapons
-        int weaponDamage = inventory.useWeapon();
-        double damageMultiplier = 0.05; // 5% of strength per point
-        int damage = (int)(getCurrentStrength() * damageMultiplier * (weaponDamage > 0 ? weaponDamage : 1));
-        
+        int damage = getAttackDamage();
         monster.takeDamage(damage);
         
-        // Use CombatLogger for the attack message
-        CombatLogger.getInstance().logHeroAttack(this, monster, damage, false);
+        GameEventBus.getInstance().publish(GameEvent.Type.HERO_ATTACK, this, monster, damage, false);
+    }
+
+    /**
+     * Gets the damage a basic attack deals when it is not dodged, from the hero's strength and weapons.
+     * @return The attack damage
+     */
+    public int getAttackDamage() {
+        int weaponDamage = inventory.useWeapon();
+        double damageMultiplier = 0.05; // 5% of strength per point
+        return (int)(getCurrentStrength() * damageMultiplier * (weaponDamage > 0 ? weaponDamage : 1));
+    }
+
+    /**
+     * Gets the chance that the hero dodges a monster's attack.
+     * @return The dodge chance, between 0 and 1 for agility up to 500
+     */
+    public double getDodgeChance() {
+        return getCurrentAgility() * 0.002; // 0.2% per agility point
     }
 
 
@@ -280,32 +297,32 @@ public class Hero extends Character implements Attackable<Monster> {
         return nexus;
     }
 
-    public int getHeroRow() { return heroRow; }
-    public int getHeroCol() { return heroCol; }
+    public int getHeroRow() { return store.row[id]; }
+    public int getHeroCol() { return store.col[id]; }
 
     public void setHeroRow(int row) {
-        heroRow = row;
+        store.row[id] = row;
     }
 
     public void setHeroCol(int col) {
-        heroCol = col;
+        store.col[id] = col;
     }
 
     @Override
     public String toString() {
-        return super.toString() + ", HP=" + currentHealth + "/" + healthPoints + ", MP=" + currentMana + "/" + manaPoints +
-                ", STR=" + currentStrength + ", DEX=" + currentDexterity + ", AGI=" + currentAgility;
+        return super.toString() + ", HP=" + getCurrentHealth() + "/" + getHealthPoints() + ", MP=" + getCurrentMana() + "/" + getManaPoints() +
+                ", STR=" + getCurrentStrength() + ", DEX=" + getCurrentDexterity() + ", AGI=" + getCurrentAgility();
     }
 
     public void printExperienceProgress() {
-        int experienceToNextLevel = ((level) * 10) - this.experience ;
-        int nextLevel = level + 1;
+        int experienceToNextLevel = ((getLevel()) * 10) - this.experience ;
+        int nextLevel = getLevel() + 1;
         System.out.println(this.getName() + " is " + experienceToNextLevel + " experiences points away to level " + nextLevel + "." );
     }
 
     public int calculateDamage() {
         // Base damage from the hero's current strength
-        int baseDamage = this.currentStrength;
+        int baseDamage = getCurrentStrength();
 
         // Use weapon damage from the inventory
         int weaponDamage = this.inventory.useWeapon(); // Uses the `useWeapon()` method to determine total weapon damage
@@ -375,7 +392,7 @@ public class Hero extends Character implements Attackable<Monster> {
     }
     
     public void castLearnedSpell(Spell spell, Monster target) {
-        if (currentMana < spell.getManaCost()) {
+        if (getCurrentMana() < spell.getManaCost()) {
             System.out.println("Not enough mana to cast " + spell.getName() + ".");
             return;
         }
@@ -393,11 +410,12 @@ public class Hero extends Character implements Attackable<Monster> {
         
         // Apply damage to target
         target.takeDamage(damage);
-        System.out.println(this.getName() + " cast " + spell.getName() + " on " + target.getName() + " for " + damage + " damage!");
+        GameEventBus.getInstance().publish(GameEvent.Type.SPELL_CAST, this, target, damage, 0,
+                spell.getSpellType(), spell.getName());
         
         // Apply spell effects based on type
         if (spell.getSpellType() != null) {
-            target.applySpellEffect(spell.getSpellType());
+            target.applySpellEffect(spell);
         }
     }
 
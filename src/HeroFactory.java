@@ -3,9 +3,6 @@
  * created from attributes from files or using default attributes
  */
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
@@ -13,36 +10,29 @@ import java.util.Scanner;
 public class HeroFactory {
     private static final List<Hero> availableHeroes = new ArrayList<>();
 
-    // Load heroes from files upon initialization
+    // Load heroes from the data catalog upon initialization
     static {
-        loadHeroesFromFile("Warriors.txt", "Warrior");
-        loadHeroesFromFile("Sorcerers.txt", "Sorcerer");
-        loadHeroesFromFile("Paladins.txt", "Paladin");
+        Catalog.get().prefetch(DataFile.WARRIORS, DataFile.SORCERERS, DataFile.PALADINS);
+        loadHeroesFromCatalog(DataFile.WARRIORS);
+        loadHeroesFromCatalog(DataFile.SORCERERS);
+        loadHeroesFromCatalog(DataFile.PALADINS);
     }
 
-    private static void loadHeroesFromFile(String filename, String heroClass) {
-        try (BufferedReader reader = new BufferedReader(new FileReader("src/data/"+ filename))) {
-            // Skip the first line
-            reader.readLine();
+    private static void loadHeroesFromCatalog(DataFile file) {
+        DataTable table = Catalog.get().getTable(file);
+        String heroClass = file.getLabel();
 
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split("\\s+");
-                if (parts.length == 7) {
-                    String name = parts[0];
-                    int manaPoints = Integer.parseInt(parts[1]);
-                    int strength = Integer.parseInt(parts[2]);
-                    int agility = Integer.parseInt(parts[3]);
-                    int dexterity = Integer.parseInt(parts[4]);
-                    int gold = Integer.parseInt(parts[5]);
-                    int experience = Integer.parseInt(parts[6]);
+        for (int row = 0; row < table.size(); row++) {
+            String name = table.getName(row);
+            int manaPoints = table.getInt(row, 0);
+            int strength = table.getInt(row, 1);
+            int agility = table.getInt(row, 2);
+            int dexterity = table.getInt(row, 3);
+            int gold = table.getInt(row, 4);
+            int experience = table.getInt(row, 5);
 
-                    Hero hero = createHeroFromAttributes(name, heroClass, manaPoints, strength, dexterity, agility, gold, experience);
-                    availableHeroes.add(hero);
-                }
-            }
-        } catch (IOException e) {
-            System.out.println("Error loading heroes from " + filename + ": " + e.getMessage());
+            Hero hero = createHeroFromAttributes(name, heroClass, manaPoints, strength, dexterity, agility, gold, experience);
+            availableHeroes.add(hero);
         }
     }
 
@@ -66,7 +56,8 @@ public class HeroFactory {
                 return createCustomHero(heroClass, scanner);
             default:
                 System.out.println("Invalid choice. Selecting a default hero.");
-                return availableHeroes.isEmpty() ? null : availableHeroes.get(0);
+                // Take the hero off the list like a chosen one, so it is never offered or handed out twice
+                return availableHeroes.isEmpty() ? null : availableHeroes.remove(0);
         }
     }
 
@@ -0,0 +1,67 @@
+import java.util.List;
+
+/**
+ * Strategy interface for driving a hero without console input.
+ * Each method mirrors one of the interactive menus (turn actions, movement, targeting,
+ * spells, potions, shopping and equipment) so bots can play a full game unattended.
+ */
+public interface HeroPolicy {
+    /**
+     * Chooses the action a hero takes this turn.
+     * @param hero The hero taking its turn
+     * @param actions The actions available to the hero
+     * @param monstersInRange The living monsters the hero can currently attack
+     * @return One of the given actions, or null to skip the turn
+     */
+    String chooseAction(Hero hero, List<String> actions, List<Monster> monstersInRange);
+
+    /**
+     * Chooses the direction a hero moves in.
+     * @param hero The hero that is moving
+     * @param directions The directions (w, a, s, d) the hero can legally move in
+     * @param monsters All monsters on the board
+     * @return One of the given directions, or null to stay put
+     */
+    String chooseDirection(Hero hero, List<String> directions, List<Monster> monsters);
+
+    /**
+     * Chooses which monster a hero attacks or casts a spell on.
+     * @param hero The attacking hero
+     * @param targets The living monsters within range
+     * @return One of the given monsters, or null to hold the attack
+     */
+    Monster chooseTarget(Hero hero, List<Monster> targets);
+
+    /**
+     * Chooses which spell a hero casts on a target.
+     * @param hero The casting hero
+     * @param spells The spells the hero knows or carries and has enough mana for
+     * @param target The monster the spell will hit
+     * @return One of the given spells, or null to cast nothing
+     */
+    Spell chooseSpell(Hero hero, List<Spell> spells, Monster target);
+
+    /**
+     * Chooses which potion a hero drinks.
+     * @param hero The hero using a potion
+     * @param potions The potions in the hero's inventory
+     * @return One of the given potions, or null to drink nothing
+     */
+    Potion choosePotion(Hero hero, List<Potion> potions);
+
+    /**
+     * Chooses the next item a hero buys in a market. Called repeatedly until it returns null.
+     * @param hero The hero shopping
+     * @param stock The items the hero can afford and meets the level requirement for
+     * @return One of the given items, or null to leave the market
+     */
+    Item chooseItemToBuy(Hero hero, List<Item> stock);
+
+    /**
+     * Chooses which weapon or armor a hero equips.
+     * @param hero The hero changing equipment
+     * @param equippable The weapons and armor in the hero's inventory
+     * @return One of the given items, or null to keep the current equipment
+     */
+    Item chooseEquipment(Hero hero, List<Item> equippable);
+}
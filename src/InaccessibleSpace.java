@@ -6,4 +6,9 @@ public class InaccessibleSpace extends Space {
     public String getSymbol() {
         return "▒▒";
     }
+
+    @Override
+    public byte getTerrainCode() {
+        return GameState.INACCESSIBLE;
+    }
 }
\ No newline at end of file
@@ -1,38 +1,130 @@
 /**
  *  Manages the collection of items a hero possesses, such as weapons, armor, spell, and potions. It provides
  *  methods to add, remove, equip, unequip and use items within the inventory.
+ *
+ *  Items are kept in one bucket per type, so menus and summaries read a type's items or count directly
+ *  instead of filtering the whole inventory. Potions and spells are stacked: their buckets hold one item per
+ *  kind, and an index by name tracks how many copies of each kind the hero carries.
  */
 
+import java.util.AbstractList;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public class Inventory {
-    private List<Item> items;
+    private static final int MAX_WEAPON_DAMAGE = 1000;
+
+    private final List<Weapon> weapons;
+    private final List<Armor> armors;
+    private final List<Potion> potions;
+    private final List<Spell> spells;
+    private final Map<String, ItemStack> stacks;
+    private int potionCount;
+    private int spellCount;
     private List<Weapon> equippedWeapons;
     private Armor equippedArmor;
+    // Derived from the equipped items, kept up to date by updateEquipmentStats
+    private int weaponDamage;
+    private int armorReduction;
+
+    // Read-only live views handed to callers, created once
+    private final List<Weapon> weaponView;
+    private final List<Armor> armorView;
+    private final List<Potion> potionView;
+    private final List<Spell> spellView;
+    private final List<Item> allItems;
+    private final List<Item> equippableItems;
 
     public Inventory() {
-        this.items = new ArrayList<>();
+        this.weapons = new ArrayList<>();
+        this.armors = new ArrayList<>();
+        this.potions = new ArrayList<>();
+        this.spells = new ArrayList<>();
+        this.stacks = new HashMap<>();
         this.equippedWeapons = new ArrayList<>();
         this.equippedArmor = null;
+        this.weaponView = Collections.unmodifiableList(weapons);
+        this.armorView = Collections.unmodifiableList(armors);
+        this.potionView = Collections.unmodifiableList(potions);
+        this.spellView = Collections.unmodifiableList(spells);
+        this.allItems = new BucketView(Arrays.<List<? extends Item>>asList(weapons, armors, potions, spells));
+        this.equippableItems = new BucketView(Arrays.<List<? extends Item>>asList(weapons, armors));
     }
 
+    /**
+     * Gets every unequipped item, grouped by type: weapons, armor, potions, then spells.
+     * Each stack of potions or spells appears once.
+     * @return A read-only live view of the items
+     */
     public List<Item> getItems() {
-        return items;
+        return allItems;
+    }
+
+    public List<Weapon> getWeapons() { return weaponView; }
+    public List<Armor> getArmors() { return armorView; }
+    public List<Potion> getPotions() { return potionView; }
+    public List<Spell> getSpells() { return spellView; }
+
+    public int getWeaponCount() { return weapons.size(); }
+    public int getArmorCount() { return armors.size(); }
+    public int getPotionCount() { return potionCount; }
+    public int getSpellCount() { return spellCount; }
+    public int getItemCount() { return weapons.size() + armors.size() + potionCount + spellCount; }
+
+    /**
+     * Gets how many copies of a potion or spell the hero carries.
+     * @param itemName The item name
+     * @return The stack size, or 0 if there is no such stack
+     */
+    public int getStackCount(String itemName) {
+        ItemStack stack = stacks.get(itemName);
+        return stack != null ? stack.getCount() : 0;
     }
 
     public void addItem(Item item) {
-        items.add(item);
+        if (item instanceof Weapon) {
+            weapons.add((Weapon) item);
+        } else if (item instanceof Armor) {
+            armors.add((Armor) item);
+        } else if (item instanceof Potion) {
+            if (stack(item)) {
+                potions.add((Potion) item);
+            }
+            potionCount++;
+        } else if (item instanceof Spell) {
+            if (stack(item)) {
+                spells.add((Spell) item);
+            }
+            spellCount++;
+        }
     }
 
+    /**
+     * Removes one copy of an item. For a potion or spell this takes one off its stack.
+     * @param item The item to remove
+     * @return true if the item was in the inventory
+     */
+    public boolean removeItem(Item item) {
+        if (item instanceof Potion || item instanceof Spell) {
+            return takeFromStack(item.getName());
+        }
+        return bucketOf(item).remove(item);
+    }
+
+    /**
+     * Gets the unequipped weapons and armor.
+     * @return A read-only live view of the weapons followed by the armor
+     */
+    public List<Item> getEquippableItems() {
+        return equippableItems;
+    }
 
     public boolean equipItem() {
-        List<Item> equippableItems = new ArrayList<>();
-        for (Item item : items) {
-            if (item instanceof Weapon || item instanceof Armor) {
-                equippableItems.add(item);
-            }
-        }
+        List<Item> equippableItems = getEquippableItems();
 
         if (equippableItems.isEmpty()) {
             System.out.println("No weapons or armor available to equip.");
@@ -54,13 +146,19 @@ public class Inventory {
             }
         }
 
-        if (itemToEquip instanceof Weapon) {
-            equipWeapon((Weapon) itemToEquip);
-        } else if (itemToEquip instanceof Armor) {
-            equipArmor((Armor) itemToEquip);
+        return equipItem(itemToEquip);
+    }
+
+    // Equips a weapon or armor from the inventory without prompting
+    public boolean equipItem(Item item) {
+        if (item instanceof Weapon) {
+            equipWeapon((Weapon) item);
+            return true;
+        } else if (item instanceof Armor) {
+            equipArmor((Armor) item);
+            return true;
         }
-        
-        return true;
+        return false;
     }
 
     public void unequipItem() {
@@ -100,12 +198,14 @@ public class Inventory {
         if (weapon.getRequiredHands() == 2) {
             equippedWeapons.clear();
             equippedWeapons.add(weapon);
-            items.remove(weapon);
+            weapons.remove(weapon);
+            updateEquipmentStats();
             System.out.println(weapon.getName() + " is now equipped as a two-handed weapon.");
         } else {
             if (equippedWeapons.size() < 2) {
                 equippedWeapons.add(weapon);
-                items.remove(weapon);
+                weapons.remove(weapon);
+                updateEquipmentStats();
                 System.out.println(weapon.getName() + " is now equipped as a one-handed weapon.");
             } else {
                 System.out.println("Already holding two single-handed weapons.");
@@ -118,98 +218,85 @@ public class Inventory {
             System.out.println("An armor is already equipped.");
         } else {
             equippedArmor = armor;
-            items.remove(armor);
+            armors.remove(armor);
+            updateEquipmentStats();
             System.out.println(armor.getName() + " is now equipped as armor.");
         }
     }
 
     private void unequipWeapon(Weapon weapon) {
         equippedWeapons.remove(weapon);
-        items.add(weapon);
+        weapons.add(weapon);
+        updateEquipmentStats();
         System.out.println(weapon.getName() + " has been unequipped.");
     }
 
     private void unequipArmor() {
         if (equippedArmor != null) {
-            items.add(equippedArmor);
+            armors.add(equippedArmor);
             System.out.println(equippedArmor.getName() + " has been unequipped.");
             equippedArmor = null;
+            updateEquipmentStats();
         }
     }
 
+    /**
+     * Gets the total damage of the equipped weapons. The value is computed when equipment changes.
+     * @return The equipped weapon damage, or 0 with no weapon equipped
+     */
     public int useWeapon() {
-        if (equippedWeapons.isEmpty()) {
-            return 0; // No weapon equipped, no damage
-        }
-
-        // Validate the first weapon
-        Weapon weapon = equippedWeapons.get(0);
-        if (weapon == null || weapon.getDamage() < 0) {
-            System.out.println("DEBUG: Invalid weapon or negative damage for equipped weapon.");
-            return 0; // Default to no damage if invalid
-        }
-
-        if (equippedWeapons.size() == 1) {
-            // Handle single weapon case
-            int damage = weapon.getDamage();
-            if (weapon.getRequiredHands() == 2) {
-                damage *= 1.5; // 50% more damage for double-handed weapon
-            }
-
-            // Log and validate the final damage
-            if (damage > 1000) { // Arbitrary upper bound for damage
-                System.out.println("DEBUG: Weapon damage out of bounds: " + damage);
-                damage = 1000; // Cap the damage to a reasonable value
-            }
-
-            return (int) damage;
-        } else {
-            // Validate the second weapon
-            Weapon secondWeapon = equippedWeapons.get(1);
-            if (secondWeapon == null || secondWeapon.getDamage() < 0) {
-                System.out.println("DEBUG: Invalid second weapon or negative damage.");
-                return equippedWeapons.get(0).getDamage(); // Use only the first weapon's damage
-            }
-
-            // Both weapons must be one-handed
-            if (weapon.getRequiredHands() != 1 || secondWeapon.getRequiredHands() != 1) {
-                System.out.println("DEBUG: Invalid weapon configuration. Only one-handed weapons allowed for dual wielding.");
-                return weapon.getDamage(); // Default to the first weapon's damage
-            }
+        return weaponDamage;
+    }
 
-            // Sum the damage of both one-handed weapons
-            int totalDamage = weapon.getDamage() + secondWeapon.getDamage();
+    /**
+     * Gets the damage reduction of the equipped armor. The value is computed when equipment changes.
+     * @return The armor's damage reduction, or 0 with no armor equipped
+     */
+    public int useArmor() {
+        return armorReduction;
+    }
 
-            // Log and validate the final damage
-            if (totalDamage > 1000) { // Arbitrary upper bound for total damage
-                System.out.println("DEBUG: Total weapon damage out of bounds: " + totalDamage);
-                totalDamage = 1000; // Cap the damage to a reasonable value
+    // Recomputes the equipment-derived stats after a weapon or armor is equipped or unequipped
+    private void updateEquipmentStats() {
+        // Weapon.getDamage already includes the two-handed bonus. Only a pair of one-handed weapons adds up;
+        // with a two-handed weapon in the pair, the first weapon alone counts.
+        int damage = 0;
+        for (Weapon weapon : equippedWeapons) {
+            if (weapon.getRequiredHands() != 1 && equippedWeapons.size() > 1) {
+                damage = Math.max(equippedWeapons.get(0).getDamage(), 0);
+                break;
             }
-
-            return totalDamage;
+            damage += Math.max(weapon.getDamage(), 0);
         }
+        weaponDamage = Math.min(damage, MAX_WEAPON_DAMAGE);
+        armorReduction = equippedArmor != null ? equippedArmor.getDamageReduction() : 0;
     }
 
-
-    public int useArmor() {
-        return equippedArmor != null ? equippedArmor.getDamageReduction() : 0;
-    }
-
+    /**
+     * Removes exactly one item with the given name, taking it off its stack if it is a potion or spell.
+     * @param itemName The item name
+     */
     public void useItem(String itemName) {
-        items.removeIf(item -> item.getName().equals(itemName));
+        if (takeFromStack(itemName)) {
+            return;
+        }
+        if (!removeFirstNamed(weapons, itemName)) {
+            removeFirstNamed(armors, itemName);
+        }
     }
 
 
     public void showItems() {
         int index = 1;
-        for (Item item : items) {
-            System.out.println(index + ". " + item.getName());
+        for (Item item : allItems) {
+            int count = getStackCount(item.getName());
+            System.out.println(index + ". " + item.getName() + (count > 1 ? " x" + count : ""));
             index++;
         }
     }
 
     public Item getItemByName(String itemName) {
-        for (Item item : items) {
+        for (Item item : allItems) {
             if (item.getName().equalsIgnoreCase(itemName)) {
                 return item;
             }
@@ -236,4 +323,88 @@ public class Inventory {
         return equippedArmor;
     }
 
-}
\ No newline at end of file
+    // Adds one copy to the item's stack; returns true if a new stack was started
+    private boolean stack(Item item) {
+        ItemStack stack = stacks.get(item.getName());
+        if (stack != null) {
+            stack.add(1);
+            return false;
+        }
+        stacks.put(item.getName(), new ItemStack(item, 1));
+        return true;
+    }
+
+    // Takes one copy off a named stack, dropping the stack when it runs out
+    private boolean takeFromStack(String itemName) {
+        ItemStack stack = stacks.get(itemName);
+        if (stack == null) {
+            return false;
+        }
+        Item item = stack.getItem();
+        if (item instanceof Potion) {
+            potionCount--;
+        } else {
+            spellCount--;
+        }
+        if (stack.removeOne()) {
+            stacks.remove(itemName);
+            bucketOf(item).remove(item);
+        }
+        return true;
+    }
+
+    private static boolean removeFirstNamed(List<? extends Item> bucket, String itemName) {
+        for (int i = 0; i < bucket.size(); i++) {
+            if (bucket.get(i).getName().equals(itemName)) {
+                bucket.remove(i);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Returns the bucket an item of this type lives in
+    private List<? extends Item> bucketOf(Item item) {
+        if (item instanceof Weapon) {
+            return weapons;
+        } else if (item instanceof Armor) {
+            return armors;
+        } else if (item instanceof Potion) {
+            return potions;
+        }
+        return spells;
+    }
+
+    /**
+     * A read-only list that presents several buckets one after another without copying them.
+     */
+    private static final class BucketView extends AbstractList<Item> {
+        private final List<List<? extends Item>> buckets;
+
+        BucketView(List<List<? extends Item>> buckets) {
+            this.buckets = buckets;
+        }
+
+        @Override
+        public Item get(int index) {
+            if (index >= 0) {
+                for (List<? extends Item> bucket : buckets) {
+                    if (index < bucket.size()) {
+                        return bucket.get(index);
+                    }
+                    index -= bucket.size();
+                }
+            }
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+
+        @Override
+        public int size() {
+            int size = 0;
+            for (List<? extends Item> bucket : buckets) {
+                size += bucket.size();
+            }
+            return size;
+        }
+    }
+}
@@ -1,37 +1,39 @@
 /**
  * An abstract class representing generic items in the game, serving as the base class for all item types (e.g., Weapon, Armor, Potion).
- * This class include properties like name, price, and effect. It also provides a toString method for generic items.
+ * Each item is one owned copy; its name, price and stats live in a shared, immutable ItemDefinition.
+ * It also provides a toString method for generic items.
  */
 public abstract class Item {
-    protected String name;
-    protected int cost;
-    protected int levelRequirement;
-    protected String categories;
+    protected final ItemDefinition definition;
 
-    public Item(String name, int cost, int levelRequirement, String categories) {
-        this.name = name;
-        this.cost = cost;
-        this.levelRequirement = levelRequirement;
-        this.categories = categories;
+    protected Item(ItemDefinition definition) {
+        this.definition = definition;
     }
 
+    /**
+     * Creates a new, separately owned copy of this item sharing the same definition.
+     * @return The new item
+     */
+    public abstract Item newInstance();
+
     //Getters
-    public String getName() { return name; }
-    public int getCost() { return cost; }
+    public ItemDefinition getDefinition() { return definition; }
+    public String getName() { return definition.getName(); }
+    public int getCost() { return definition.getCost(); }
     public int getSellValue() {
-        return cost/2; }
+        return getCost()/2; }
     public void buy(Hero hero) {
-        hero.deductGold(cost);
-        hero.getInventory().addItem(this);
+        hero.deductGold(getCost());
+        hero.getInventory().addItem(newInstance());
     }
     public void sell(Hero hero) {
         hero.addGold(getSellValue());
         hero.getInventory().useItem(this.getName());
     }
-    public int getLevelRequirement() { return levelRequirement; }
+    public int getLevelRequirement() { return definition.getLevelRequirement(); }
 
     @Override
     public String toString() {
-        return name + ", Level=" + levelRequirement + ", Categories: " + categories + ", Cost=" + cost;
+        return getName() + ", Level=" + getLevelRequirement() + ", Categories: " + definition.getCategory() + ", Cost=" + getCost();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,112 @@
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The immutable description of an item type: its name, price, level requirement and type-specific stats.
+ * Definitions are interned, so every copy of the same item in every inventory and market of the process
+ * shares one definition; Item objects only reference it.
+ */
+public final class ItemDefinition {
+    private static final ConcurrentHashMap<ItemDefinition, ItemDefinition> INTERNED = new ConcurrentHashMap<>();
+
+    private final String category;
+    private final String name;
+    private final int cost;
+    private final int levelRequirement;
+    private final int damage;             // Weapons and spells
+    private final int requiredHands;      // Weapons
+    private final int damageReduction;    // Armor
+    private final int attributeIncrease;  // Potions
+    private final String attributeAffected;
+    private final int manaCost;           // Spells
+    private final SpellType spellType;
+    private final SpellShape areaShape;
+    private final int areaSize;
+
+    private ItemDefinition(String category, String name, int cost, int levelRequirement, int damage, int requiredHands,
+                           int damageReduction, int attributeIncrease, String attributeAffected, int manaCost, SpellType spellType,
+                           SpellShape areaShape, int areaSize) {
+        this.category = category;
+        this.name = name;
+        this.cost = cost;
+        this.levelRequirement = levelRequirement;
+        this.damage = damage;
+        this.requiredHands = requiredHands;
+        this.damageReduction = damageReduction;
+        this.attributeIncrease = attributeIncrease;
+        this.attributeAffected = attributeAffected;
+        this.manaCost = manaCost;
+        this.spellType = spellType;
+        this.areaShape = areaShape;
+        this.areaSize = areaSize;
+    }
+
+    public static ItemDefinition weapon(String name, int cost, int levelRequirement, int damage, int requiredHands) {
+        return intern(new ItemDefinition("Weapon", name, cost, levelRequirement, damage, requiredHands, 0, 0, null, 0, null, null, 0));
+    }
+
+    public static ItemDefinition armor(String name, int cost, int levelRequirement, int damageReduction) {
+        return intern(new ItemDefinition("Armor", name, cost, levelRequirement, 0, 0, damageReduction, 0, null, 0, null, null, 0));
+    }
+
+    public static ItemDefinition potion(String name, int cost, int levelRequirement, int attributeIncrease, String attributeAffected) {
+        return intern(new ItemDefinition("Potion", name, cost, levelRequirement, 0, 0, 0, attributeIncrease, attributeAffected, 0, null, null, 0));
+    }
+
+    public static ItemDefinition spell(String name, int cost, int levelRequirement, int damage, int manaCost, SpellType spellType,
+                                       SpellShape areaShape, int areaSize) {
+        return intern(new ItemDefinition("Spell", name, cost, levelRequirement, damage, 0, 0, 0, null, manaCost, spellType,
+                areaShape, areaSize));
+    }
+
+    /**
+     * Gets the number of distinct definitions interned so far.
+     * @return The definition count
+     */
+    public static int getInternedCount() {
+        return INTERNED.size();
+    }
+
+    // Returns the shared definition equal to this one, registering it if it is the first
+    private static ItemDefinition intern(ItemDefinition definition) {
+        ItemDefinition existing = INTERNED.putIfAbsent(definition, definition);
+        return existing != null ? existing : definition;
+    }
+
+    public String getCategory() { return category; }
+    public String getName() { return name; }
+    public int getCost() { return cost; }
+    public int getLevelRequirement() { return levelRequirement; }
+    public int getDamage() { return damage; }
+    public int getRequiredHands() { return requiredHands; }
+    public int getDamageReduction() { return damageReduction; }
+    public int getAttributeIncrease() { return attributeIncrease; }
+    public String getAttributeAffected() { return attributeAffected; }
+    public int getManaCost() { return manaCost; }
+    public SpellType getSpellType() { return spellType; }
+    public SpellShape getAreaShape() { return areaShape; }
+    public int getAreaSize() { return areaSize; }
+
+    @Override
+    public boolean equals(Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (!(other instanceof ItemDefinition)) {
+            return false;
+        }
+        ItemDefinition that = (ItemDefinition) other;
+        return cost == that.cost && levelRequirement == that.levelRequirement && damage == that.damage
+                && requiredHands == that.requiredHands && damageReduction == that.damageReduction
+                && attributeIncrease == that.attributeIncrease && manaCost == that.manaCost && areaSize == that.areaSize
+                && category.equals(that.category) && name.equals(that.name)
+                && Objects.equals(attributeAffected, that.attributeAffected) && spellType == that.spellType
+                && areaShape == that.areaShape;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(category, name, cost, levelRequirement, damage, requiredHands, damageReduction,
+                attributeIncrease, attributeAffected, manaCost, spellType, areaShape, areaSize);
+    }
+}
@@ -4,9 +4,6 @@
  * different item categories.
  */
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -21,12 +18,12 @@ public class ItemFactory {
         if (itemType.equals("Spell")) {
             itemDataList = loadAllSpells(level);
         } else {
-            String filename = getFilenameForItemType(itemType);
-            if (filename == null) {
+            DataFile file = getDataFileForItemType(itemType);
+            if (file == null) {
                 System.out.println("Invalid item type: " + itemType);
                 return null;
             }
-            itemDataList = loadItemData(filename, level);
+            itemDataList = loadItemData(Catalog.get(), file, level);
         }
 
         if (itemDataList.isEmpty()) {
@@ -40,7 +37,7 @@ public class ItemFactory {
             case "Weapon":
                 return new Weapon(selectedData.name, selectedData.cost, selectedData.levelRequirement, selectedData.damage, selectedData.requiredHands);
             case "Spell":
-                return new Spell(selectedData.name, selectedData.cost, selectedData.levelRequirement, selectedData.damage, selectedData.manaCost, selectedData.spellType);
+                return new Spell(selectedData.name, selectedData.cost, selectedData.levelRequirement, selectedData.damage, selectedData.manaCost, selectedData.spellType, selectedData.areaShape, selectedData.areaSize);
             case "Armor":
                 return new Armor(selectedData.name, selectedData.cost, selectedData.levelRequirement, selectedData.damageReduction);
             case "Potion":
@@ -50,87 +47,74 @@ public class ItemFactory {
         }
     }
 
-    // Load spells from all three spell files
+    // Load spells from all three spell files, all from the same catalog version even if a reload lands mid-build
     private static List<ItemData> loadAllSpells(int level) {
-        String[] spellFiles = { "FireSpells.txt", "IceSpells.txt", "LightningSpells.txt" };
+        DataFile[] spellFiles = { DataFile.FIRE_SPELLS, DataFile.ICE_SPELLS, DataFile.LIGHTNING_SPELLS };
         List<ItemData> allSpells = new ArrayList<>();
+        Catalog catalog = Catalog.get();
+        catalog.prefetch(spellFiles);
 
-        for (String filename : spellFiles) {
-            allSpells.addAll(loadItemData(filename, level));
+        for (DataFile file : spellFiles) {
+            allSpells.addAll(loadItemData(catalog, file, level));
         }
         return allSpells;
     }
 
-    // Map item types to specific filenames
-    private static String getFilenameForItemType(String itemType) {
+    // Map item types to specific data files
+    private static DataFile getDataFileForItemType(String itemType) {
         switch (itemType) {
             case "Weapon":
-                return "Weaponry.txt";
+                return DataFile.WEAPONRY;
             case "Armor":
-                return "Armory.txt";
+                return DataFile.ARMORY;
             case "Potion":
-                return "Potions.txt";
+                return DataFile.POTIONS;
             default:
                 return null;
         }
     }
 
-    // Load items from a specified file and filter by level
-    private static List<ItemData> loadItemData(String filename, int level) {
+    // Load items from the catalog table of a data file and filter by level
+    private static List<ItemData> loadItemData(Catalog catalog, DataFile file, int level) {
         List<ItemData> items = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(new FileReader("src/data/" + filename))) {
-            // Skip the first line
-            reader.readLine();
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split("\\s+");
-                if (parts.length >= 3) {
-                    String name = parts[0];
-                    int cost = Integer.parseInt(parts[1]);
-                    int levelRequirement = Integer.parseInt(parts[2]);
-
-                    if (levelRequirement <= level) {
-                        switch (filename) {
-                            case "Weaponry.txt":
-                                int damage = Integer.parseInt(parts[3]);
-                                int requiredHands = Integer.parseInt(parts[4]);
-                                items.add(new ItemData(name, cost, levelRequirement, damage, requiredHands, 0, 0, 0, null ,null));
-                                break;
-                            case "Armory.txt":
-                                int damageReduction = Integer.parseInt(parts[3]);
-                                items.add(new ItemData(name, cost, levelRequirement, 0, 0, 0, damageReduction, 0, null,null));
-                                break;
-                            case "Potions.txt":
-                                int attributeIncrease = Integer.parseInt(parts[3]);
-                                String attributeAffected = parts[4];
-                                items.add(new ItemData(name, cost, levelRequirement, 0, 0, 0,0, attributeIncrease, attributeAffected, null));
-                                break;
-                            case "FireSpells.txt":
-                                damage = Integer.parseInt(parts[3]);
-                                int manaCost = Integer.parseInt(parts[4]);
-                                String spellType = "Fire";
-                                items.add(new ItemData(name, cost, levelRequirement, damage, 0, manaCost, 0, 0 ,null, spellType));
-                                break;
-                            case "IceSpells.txt":
-                                damage = Integer.parseInt(parts[3]);
-                                manaCost = Integer.parseInt(parts[4]);
-                                spellType = "Ice";
-                                items.add(new ItemData(name, cost, levelRequirement, damage, 0, manaCost, 0, 0,null, spellType));
-                                break;
-                            case "LightningSpells.txt":
-                                damage = Integer.parseInt(parts[3]);
-                                manaCost = Integer.parseInt(parts[4]);
-                                spellType = "Lightning";
-                                items.add(new ItemData(name, cost, levelRequirement, damage, 0, manaCost, 0, 0,null, spellType));
-                                break;
-                        }
-                    }
+        DataTable table = catalog.getTable(file);
+        SpellType spellType = SpellType.forDataFile(file);  // Resolved once per table, null for other items
+
+        for (int row = 0; row < table.size(); row++) {
+            String name = table.getName(row);
+            int cost = table.getInt(row, 0);
+            int levelRequirement = table.getInt(row, 1);
+
+            if (levelRequirement <= level) {
+                switch (file) {
+                    case WEAPONRY:
+                        int damage = table.getInt(row, 2);
+                        int requiredHands = table.getInt(row, 3);
+                        items.add(new ItemData(name, cost, levelRequirement, damage, requiredHands, 0, 0, 0, null ,null));
+                        break;
+                    case ARMORY:
+                        int damageReduction = table.getInt(row, 2);
+                        items.add(new ItemData(name, cost, levelRequirement, 0, 0, 0, damageReduction, 0, null,null));
+                        break;
+                    case POTIONS:
+                        int attributeIncrease = table.getInt(row, 2);
+                        String attributeAffected = table.getText(row);
+                        items.add(new ItemData(name, cost, levelRequirement, 0, 0, 0,0, attributeIncrease, attributeAffected, null));
+                        break;
+                    case FIRE_SPELLS:
+                    case ICE_SPELLS:
+                    case LIGHTNING_SPELLS:
+                        damage = table.getInt(row, 2);
+                        int manaCost = table.getInt(row, 3);
+                        ItemData spell = new ItemData(name, cost, levelRequirement, damage, 0, manaCost, 0, 0, null, spellType);
+                        spell.areaSize = table.getInt(row, 4);
+                        spell.areaShape = SpellShape.forLabel(table.getText(row));
+                        items.add(spell);
+                        break;
+                    default:
+                        break;
                 }
             }
-        } catch (IOException e) {
-            System.out.println("Error reading file " + filename + ": " + e.getMessage());
         }
 
         return items;
@@ -140,9 +124,12 @@ public class ItemFactory {
 class ItemData {
     String name;
     int cost, levelRequirement, damage, requiredHands, manaCost, damageReduction, attributeIncrease;
-    String attributeAffected, spellType;
+    String attributeAffected;
+    SpellType spellType;
+    SpellShape areaShape;  // Spells
+    int areaSize;
 
-    public ItemData(String name, int cost, int levelRequirement, int damage, int requiredHands, int manaCost, int damageReduction, int attributeIncrease, String attributeAffected, String spellType) {
+    public ItemData(String name, int cost, int levelRequirement, int damage, int requiredHands, int manaCost, int damageReduction, int attributeIncrease, String attributeAffected, SpellType spellType) {
         this.name = name;
         this.cost = cost;
         this.levelRequirement = levelRequirement;
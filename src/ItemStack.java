@@ -0,0 +1,29 @@
+/**
+ * A pile of identical consumables in an inventory: one item standing for its definition, and how many
+ * copies the hero holds. Potions and one-time spells are stacked instead of kept as one object each.
+ */
+public class ItemStack {
+    private final Item item;
+    private int count;
+
+    public ItemStack(Item item, int count) {
+        this.item = item;
+        this.count = count;
+    }
+
+    public Item getItem() { return item; }
+    public ItemDefinition getDefinition() { return item.getDefinition(); }
+    public int getCount() { return count; }
+
+    public void add(int amount) {
+        count += amount;
+    }
+
+    /**
+     * Takes one copy off the stack.
+     * @return true if the stack is now empty
+     */
+    public boolean removeOne() {
+        return --count <= 0;
+    }
+}
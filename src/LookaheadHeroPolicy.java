@@ -0,0 +1,115 @@
+import java.util.List;
+
+/**
+ * A bot that looks one round ahead before acting. Moves, targets and actions are scored by the
+ * expected damage exchange with nearby monsters after the hero acts and the monsters respond,
+ * rather than by a fixed preference order.
+ */
+public class LookaheadHeroPolicy extends GreedyHeroPolicy {
+    private static final double PROGRESS_WEIGHT = 50.0;
+    private static final double DAMAGE_TAKEN_WEIGHT = 1.5;
+    private static final double LETHAL_PENALTY = 10000.0;
+    private static final double KILL_BONUS = 1000.0;
+
+    @Override
+    public String chooseAction(Hero hero, List<String> actions, List<Monster> monstersInRange) {
+        if (monstersInRange.isEmpty() || !actions.contains("Attack")) {
+            return super.chooseAction(hero, actions, monstersInRange);
+        }
+
+        // Drink a potion only if the monsters' reply would otherwise kill the hero
+        double incoming = 0;
+        for (Monster monster : monstersInRange) {
+            if (isInMonsterRange(monster, hero.getHeroRow(), hero.getHeroCol())) {
+                incoming += expectedDamageTaken(monster, hero);
+            }
+        }
+        if (incoming >= hero.getCurrentHealth() && actions.contains("Use Potion") && findPotion(hero, "Health") != null) {
+            return "Use Potion";
+        }
+
+        Monster target = chooseTarget(hero, monstersInRange);
+        Spell spell = bestCastableSpell(hero);
+        if (spell != null && actions.contains("Cast Spell") && target != null
+                && spell.getDamage() > expectedAttackDamage(hero, target)) {
+            return "Cast Spell";
+        }
+        return "Attack";
+    }
+
+    @Override
+    public String chooseDirection(Hero hero, List<String> directions, List<Monster> monsters) {
+        String best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (String direction : directions) {
+            int row = hero.getHeroRow();
+            int col = hero.getHeroCol();
+            switch (direction) {
+                case "w": row--; break;
+                case "s": row++; break;
+                case "a": col--; break;
+                case "d": col++; break;
+                default: continue;
+            }
+
+            double score = scorePosition(hero, row, col, monsters);
+            if (score > bestScore) {
+                bestScore = score;
+                best = direction;
+            }
+        }
+        return best;
+    }
+
+    @Override
+    public Monster chooseTarget(Hero hero, List<Monster> targets) {
+        Monster best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (Monster monster : targets) {
+            if (!monster.isAlive()) {
+                continue;
+            }
+            double damage = expectedAttackDamage(hero, monster);
+            double score = Math.min(damage, monster.getCurrentHealth()) / Math.max(monster.getCurrentHealth(), 1)
+                    + expectedDamageTaken(monster, hero) / Math.max(hero.getCurrentHealth(), 1);
+            if (damage >= monster.getCurrentHealth()) {
+                score += KILL_BONUS;
+            }
+            if (score > bestScore) {
+                bestScore = score;
+                best = monster;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores a square by progress toward the monsters' Nexus and the expected exchange with
+     * every monster that could fight the hero there next round.
+     */
+    private double scorePosition(Hero hero, int row, int col, List<Monster> monsters) {
+        double score = -row * PROGRESS_WEIGHT;
+        double incoming = 0;
+        for (Monster monster : monsters) {
+            if (!monster.isAlive()) {
+                continue;
+            }
+            if (Math.abs(monster.getMonsterRow() - row) <= 1 && Math.abs(monster.getMonsterCol() - col) <= 1) {
+                score += Math.min(expectedAttackDamage(hero, monster), monster.getCurrentHealth());
+            }
+            if (isInMonsterRange(monster, row, col)) {
+                incoming += expectedDamageTaken(monster, hero);
+            }
+        }
+        score -= incoming * DAMAGE_TAKEN_WEIGHT;
+        if (incoming >= hero.getCurrentHealth()) {
+            score -= LETHAL_PENALTY;
+        }
+        return score;
+    }
+
+    // Same range rule as CombatSystem.getHeroesInRange
+    private boolean isInMonsterRange(Monster monster, int row, int col) {
+        return Math.abs(monster.getMonsterRow() - row) + Math.abs(monster.getMonsterCol() - col) <= 1;
+    }
+}
@@ -1,8 +1,20 @@
+import java.io.IOException;
+import java.util.Arrays;
+
 /**
  * The entry point of the application, contains the main method to start the game.
  */
 public class Main {
     public static void main(String[] args) {
+        // --reload-data picks up edits to the data files without a restart
+        if (Arrays.asList(args).contains("--reload-data")) {
+            try {
+                CatalogReloader.start(Catalog.DATA_DIR);
+            } catch (IOException e) {
+                System.out.println("Could not watch " + Catalog.DATA_DIR + ": " + e.getMessage());
+            }
+        }
+
         // Create a game manager and start the game session
         GameManager gameManager = new GameManager();
         gameManager.startGameSession();
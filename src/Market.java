@@ -1,6 +1,8 @@
 /**
  * Represents a marketplace where players can buy and sell items. This class provide methods to display items for sale,
  * resells, and manage player interactions with the market.
+ * A market is an empty placeholder until a hero first enters it; only then is its stock drawn from the catalog,
+ * so building a world costs the same however many markets it has.
  */
 
 import java.util.ArrayList;
@@ -9,13 +11,14 @@ import java.util.List;
 import java.util.Map;
 
 public class Market extends Space {
+    // Null until the market is first entered
     private List<Item> availableWeapons;
     private List<Item> availableArmor;
     private List<Item> availablePotions;
     private List<Item> availableSpells;
 
     public Market() {
-        loadAvailableItems();
+        // Stock is loaded on first entry
     }
 
     @Override
@@ -23,6 +26,13 @@ public class Market extends Space {
         return "$";
     }
 
+    // Stocks the market the first time it is used
+    private void ensureStocked() {
+        if (availableWeapons == null) {
+            loadAvailableItems();
+        }
+    }
+
     // Load items from all categories with multiple level options
     private void loadAvailableItems() {
         availableWeapons = new ArrayList<>();
@@ -68,6 +78,7 @@ public class Market extends Space {
     }
 
     public void enterMarket(Hero hero) {
+        ensureStocked();
         InputHandler inputHandler = InputHandler.getInstance();
         boolean inMarket = true;
 
@@ -189,7 +200,7 @@ public class Market extends Space {
                         itemDetails = " [Protection: " + armor.getDamageReduction() + "]";
                     } else if (item instanceof Spell) {
                         Spell spell = (Spell) item;
-                        itemDetails = " [" + spell.getSpellType() + " DMG: " + spell.getDamage() + ", Mana: " + spell.getManaCost() + "]";
+                        itemDetails = " [" + spell.getSpellType() + " DMG: " + spell.getDamage() + ", Mana: " + spell.getManaCost() + ", Area: " + spell.describeArea() + "]";
                     } else if (item instanceof Potion) {
                         Potion potion = (Potion) item;
                         itemDetails = " [+" + potion.getAttributeIncrease() + " " + potion.getAttributeAffected() + "]";
@@ -221,29 +232,74 @@ public class Market extends Space {
             System.out.println("You do not have enough gold to buy this item. You need " + 
                 itemToBuy.getCost() + " gold (You have " + hero.getGold() + " gold)");
         } else {
-            hero.deductGold(itemToBuy.getCost());
-            
-            // Handle spells differently - learn them instead of adding to inventory
-            if (itemToBuy instanceof Spell) {
-                Spell spell = (Spell) itemToBuy;
-                hero.learnSpell(spell);
-                
-                // Add a visual feedback for spell learning
-                System.out.println("\n\u001B[35m*** " + hero.getName() + " has learned " + spell.getName() + "! ***\u001B[0m");
-                System.out.println("\u001B[35mSpell Type: " + spell.getSpellType() + 
-                    " | Damage: " + spell.getDamage() + 
-                    " | Mana Cost: " + spell.getManaCost() + "\u001B[0m");
-                System.out.println("\u001B[35mThis spell can now be cast anytime in battle as long as you have enough mana!\u001B[0m");
-            } else {
-                hero.getInventory().addItem(itemToBuy);
+            completePurchase(hero, itemToBuy, itemsToShow);
+        }
+    }
+
+    /**
+     * Lets a hero policy shop without console input. The policy is offered every item the hero
+     * can afford and meets the level requirement for, until it declines to buy anything more.
+     * @param hero The hero shopping
+     * @param policy The policy making the buying decisions
+     */
+    public void autoShop(Hero hero, HeroPolicy policy) {
+        ensureStocked();
+        List<List<Item>> categories = new ArrayList<>();
+        categories.add(availableWeapons);
+        categories.add(availableArmor);
+        categories.add(availablePotions);
+        categories.add(availableSpells);
+
+        while (true) {
+            List<Item> stock = new ArrayList<>();
+            for (List<Item> category : categories) {
+                for (Item item : category) {
+                    if (item.getLevelRequirement() <= hero.getLevel() && item.getCost() <= hero.getGold()) {
+                        stock.add(item);
+                    }
+                }
+            }
+            if (stock.isEmpty()) {
+                return;
+            }
+
+            Item choice = policy.chooseItemToBuy(hero, stock);
+            if (choice == null || !stock.contains(choice)) {
+                return;
+            }
+            for (List<Item> category : categories) {
+                if (category.contains(choice)) {
+                    completePurchase(hero, choice, category);
+                    break;
+                }
             }
-            
-            itemsToShow.remove(itemToBuy);
-            System.out.println("\u001B[32mYou have successfully bought " + itemToBuy.getName() + "!\u001B[0m");
-            System.out.println("You now have " + hero.getGold() + " gold.");
         }
     }
 
+    // Charges the hero, hands over the item and removes it from the market's stock
+    private void completePurchase(Hero hero, Item itemToBuy, List<Item> stock) {
+        hero.deductGold(itemToBuy.getCost());
+
+        // Handle spells differently - learn them instead of adding to inventory
+        if (itemToBuy instanceof Spell) {
+            Spell spell = ((Spell) itemToBuy).newInstance();
+            hero.learnSpell(spell);
+
+            // Add a visual feedback for spell learning
+            System.out.println("\n\u001B[35m*** " + hero.getName() + " has learned " + spell.getName() + "! ***\u001B[0m");
+            System.out.println("\u001B[35mSpell Type: " + spell.getSpellType() + 
+                " | Damage: " + spell.getDamage() + 
+                " | Mana Cost: " + spell.getManaCost() + "\u001B[0m");
+            System.out.println("\u001B[35mThis spell can now be cast anytime in battle as long as you have enough mana!\u001B[0m");
+        } else {
+            hero.getInventory().addItem(itemToBuy.newInstance());
+        }
+
+        stock.remove(itemToBuy);
+        System.out.println("\u001B[32mYou have successfully bought " + itemToBuy.getName() + "!\u001B[0m");
+        System.out.println("You now have " + hero.getGold() + " gold.");
+    }
+
     private void sellItem(Hero hero, InputHandler inputHandler) {
         System.out.println("\n\u001B[33mYour inventory:\u001B[0m");
         List<Item> items = hero.getInventory().getItems();
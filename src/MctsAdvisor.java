@@ -0,0 +1,297 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Recommends an action for a hero by running a time-bounded Monte Carlo tree search
+ * from a GameState snapshot.
+ *
+ * The search is root-parallel: every worker thread grows its own tree from the same root
+ * for the whole time budget, and the visit counts of the root's children are summed at the end.
+ * Trees are open-loop (nodes store actions, not states), so dodge rolls are re-sampled on every
+ * descent and no state needs to be kept in the tree.
+ *
+ * Workers come from a pool the advisor creates on its first multi-threaded search and keeps for the rest
+ * of its life. Its threads are daemons that exit after a while without work, so an advisor that is no
+ * longer used holds no threads.
+ */
+public class MctsAdvisor {
+    private static final double EXPLORATION = 1.4;
+    private static final int MAX_TREE_DEPTH = 6;
+    private static final int ROLLOUT_ROUNDS = 12;
+    private static final double ROLLOUT_RANDOMNESS = 0.2;
+    private static final long IDLE_SECONDS = 30;
+
+    private final int budgetMillis;
+    private final int threads;
+    private ExecutorService executor;  // Created on first use
+
+    /**
+     * Creates an advisor.
+     * @param budgetMillis How long each recommendation may search, in milliseconds
+     * @param threads How many worker threads to search with
+     */
+    public MctsAdvisor(int budgetMillis, int threads) {
+        this.budgetMillis = Math.max(1, budgetMillis);
+        this.threads = Math.max(1, threads);
+    }
+
+    /**
+     * Creates an advisor that uses every available core.
+     * @param budgetMillis How long each recommendation may search, in milliseconds
+     */
+    public MctsAdvisor(int budgetMillis) {
+        this(budgetMillis, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * The result of a search: the recommended action and how confident the search is in it.
+     */
+    public static class Hint {
+        private final int action;
+        private final String description;
+        private final int visits;
+        private final int totalVisits;
+        private final double winRate;
+
+        Hint(int action, String description, int visits, int totalVisits, double winRate) {
+            this.action = action;
+            this.description = description;
+            this.visits = visits;
+            this.totalVisits = totalVisits;
+            this.winRate = winRate;
+        }
+
+        public int getAction() { return action; }
+        public String getDescription() { return description; }
+        public int getVisits() { return visits; }
+        public int getTotalVisits() { return totalVisits; }
+        public double getWinRate() { return winRate; }
+
+        @Override
+        public String toString() {
+            return description + String.format(" (expected outcome %.0f%%, %d of %d simulations)",
+                    winRate * 100, visits, totalVisits);
+        }
+    }
+
+    /**
+     * Searches for the best action for a hero.
+     * @param root The current game state; it is forked, never modified
+     * @param hero The index of the hero to advise
+     * @param monsterNames Display names of the monsters, by monster index
+     * @return The recommended action
+     */
+    public Hint recommend(GameState root, int hero, String[] monsterNames) {
+        long deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        int[] rootActions = new int[5 + 2 * root.getMonsterCount()];
+        int rootCount = SimulationRules.legalActions(root, hero, rootActions);
+
+        List<Node> trees = new ArrayList<>();
+        if (threads == 1) {
+            trees.add(search(root.fork(), hero, deadline));
+        } else {
+            try {
+                // Fork every worker's private root here: fork() marks the parent's arrays shared, so it must not
+                // be called on the same state from several threads
+                List<Future<Node>> futures = new ArrayList<>();
+                for (int i = 0; i < threads; i++) {
+                    GameState workerRoot = root.fork();
+                    futures.add(executor().submit(() -> search(workerRoot, hero, deadline)));
+                }
+                for (Future<Node> future : futures) {
+                    trees.add(future.get());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Search failed", e.getCause());
+            }
+        }
+
+        // Merge the root statistics of every worker's tree
+        int bestAction = SimulationRules.SKIP;
+        int bestVisits = -1;
+        double bestValue = 0;
+        int totalVisits = 0;
+        for (int i = 0; i < rootCount; i++) {
+            int action = rootActions[i];
+            int visits = 0;
+            double value = 0;
+            for (Node tree : trees) {
+                Node child = tree.child(action);
+                if (child != null) {
+                    visits += child.visits;
+                    value += child.value;
+                }
+            }
+            totalVisits += visits;
+            if (visits > bestVisits) {
+                bestVisits = visits;
+                bestAction = action;
+                bestValue = value;
+            }
+        }
+
+        double winRate = bestVisits > 0 ? bestValue / bestVisits : 0;
+        return new Hint(bestAction, SimulationRules.describe(root, hero, bestAction, monsterNames),
+                Math.max(bestVisits, 0), totalVisits, winRate);
+    }
+
+    private synchronized ExecutorService executor() {
+        if (executor == null) {
+            ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, IDLE_SECONDS, TimeUnit.SECONDS,
+                    new LinkedBlockingQueue<Runnable>(), task -> {
+                        Thread thread = new Thread(task, "mcts-worker");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            pool.allowCoreThreadTimeOut(true);
+            executor = pool;
+        }
+        return executor;
+    }
+
+    // Searches from a root owned by this worker alone; the root is forked again for every descent
+    private Node search(GameState root, int hero, long deadline) {
+        Random random = ThreadLocalRandom.current();
+        int[] buffer = new int[5 + 2 * root.getMonsterCount()];
+        Node tree = new Node(SimulationRules.SKIP, null);
+
+        while (System.nanoTime() < deadline) {
+            GameState state = root.fork();
+            Node node = tree;
+            int depth = 0;
+
+            // Selection and expansion
+            while (SimulationRules.winner(state) == 0 && depth < MAX_TREE_DEPTH) {
+                int count = SimulationRules.legalActions(state, hero, buffer);
+                Node next = null;
+                for (int i = 0; i < count && next == null; i++) {
+                    if (node.child(buffer[i]) == null) {
+                        next = node.addChild(buffer[i]);
+                    }
+                }
+                boolean expanded = next != null;
+                if (!expanded) {
+                    next = node.select(buffer, count);
+                }
+
+                SimulationRules.applyHeroAction(state, hero, next.action, random);
+                SimulationRules.finishRound(state, hero, random, buffer);
+                node = next;
+                depth++;
+                if (expanded) {
+                    break;
+                }
+            }
+
+            double value = rollout(state, hero, random, buffer);
+
+            // Backpropagation
+            for (Node n = node; n != null; n = n.parent) {
+                n.visits++;
+                n.value += value;
+            }
+        }
+        return tree;
+    }
+
+    private double rollout(GameState state, int hero, Random random, int[] buffer) {
+        for (int round = 0; round < ROLLOUT_ROUNDS && SimulationRules.winner(state) == 0; round++) {
+            int action = SimulationRules.defaultHeroAction(state, hero, random, buffer, ROLLOUT_RANDOMNESS);
+            SimulationRules.applyHeroAction(state, hero, action, random);
+            SimulationRules.finishRound(state, hero, random, buffer);
+        }
+        return evaluate(state);
+    }
+
+    /**
+     * Scores a state from the heroes' point of view: 1 for a win, 0 for a loss, otherwise a blend
+     * of how far each side has pushed and how much health each side has left.
+     */
+    private double evaluate(GameState state) {
+        int winner = SimulationRules.winner(state);
+        if (winner != 0) {
+            return winner > 0 ? 1.0 : 0.0;
+        }
+
+        int lastRow = Math.max(state.getRows() - 1, 1);
+        int heroCount = state.getHeroCount();
+        int bestHeroRow = lastRow;
+        double heroHealth = 0;
+        for (int h = 0; h < heroCount; h++) {
+            bestHeroRow = Math.min(bestHeroRow, state.get(GameState.ROW, h));
+            heroHealth += (double) state.get(GameState.HEALTH, h) / Math.max(state.get(GameState.MAX_HEALTH, h), 1);
+        }
+        int bestMonsterRow = 0;
+        double monsterHealth = 0;
+        for (int u = heroCount; u < state.getUnitCount(); u++) {
+            if (state.isAlive(u)) {
+                bestMonsterRow = Math.max(bestMonsterRow, state.get(GameState.ROW, u));
+            }
+            monsterHealth += (double) state.get(GameState.HEALTH, u) / Math.max(state.get(GameState.MAX_HEALTH, u), 1);
+        }
+
+        double heroProgress = (double) (lastRow - bestHeroRow) / lastRow;
+        double monsterProgress = (double) bestMonsterRow / lastRow;
+        double health = heroHealth / Math.max(heroCount, 1) - monsterHealth / Math.max(state.getMonsterCount(), 1);
+        double score = 0.5 + 0.3 * (heroProgress - monsterProgress) + 0.2 * health;
+        return Math.max(0.0, Math.min(1.0, score));
+    }
+
+    /**
+     * A node of an open-loop search tree, keyed by the hero action that leads to it.
+     */
+    private static final class Node {
+        final int action;
+        final Node parent;
+        final List<Node> children = new ArrayList<>();
+        int visits;
+        double value;
+
+        Node(int action, Node parent) {
+            this.action = action;
+            this.parent = parent;
+        }
+
+        Node child(int childAction) {
+            for (int i = 0; i < children.size(); i++) {
+                if (children.get(i).action == childAction) {
+                    return children.get(i);
+                }
+            }
+            return null;
+        }
+
+        Node addChild(int childAction) {
+            Node child = new Node(childAction, this);
+            children.add(child);
+            return child;
+        }
+
+        // UCB1 over the children whose actions are legal in the current sampled state
+        Node select(int[] legal, int count) {
+            Node best = null;
+            double bestScore = Double.NEGATIVE_INFINITY;
+            double logVisits = Math.log(Math.max(visits, 1));
+            for (int i = 0; i < count; i++) {
+                Node child = child(legal[i]);
+                double score = child.value / Math.max(child.visits, 1)
+                        + EXPLORATION * Math.sqrt(logVisits / Math.max(child.visits, 1));
+                if (score > bestScore) {
+                    bestScore = score;
+                    best = child;
+                }
+            }
+            return best;
+        }
+    }
+}
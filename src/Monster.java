@@ -6,65 +6,69 @@ import java.util.Random;
  */
 
 public class Monster extends Character implements Attackable<Hero> {
-    private int baseDamage;
     private String monsterIdentifier;
-    private int defense;
-    private int dodgeChance;
-
-    /*
-    For Legends and Valor
-     */
-    private int MonsterRow;
-    private int MonsterCol;
+    // Damage, defense, dodge chance and position live in the UnitStore
 
     public Monster(String name, int level, int damage, int defense, int dodgeChance) {
         super(name, level);
-        this.baseDamage = damage;
-        this.defense = defense;
-        this.dodgeChance = dodgeChance;
+        store.damage[id] = damage;
+        store.defense[id] = defense;
+        store.dodge[id] = dodgeChance;
     }
 
+    // Re-initializes this monster as a fresh one at full health, e.g. when it is reused from the MonsterPool
     public void setAttributes(String name, int level, int baseDamage, int defense, int dodgeChance) {
         this.name = name;
-        this.level = level;
-        this.baseDamage = baseDamage;
-        this.defense = defense;
-        this.dodgeChance = dodgeChance;
+        this.monsterIdentifier = null;
+        store.level[id] = level;
+        store.maxHealth[id] = level * 100;
+        store.maxMana[id] = level * 50;
+        store.mana[id] = level * 50;
+        store.setHealth(id, level * 100);
+        store.damage[id] = baseDamage;
+        store.defense[id] = defense;
+        store.dodge[id] = dodgeChance;
     }
 
     // Getters
-    public int getHealth() { return healthPoints; }
-    public int getCurrentHealth() { return healthPoints; }
-    public int getBaseDamage() { return baseDamage; }
-    public int getBaseDefense() { return defense; }
-    public double getDodgeChance() { return dodgeChance * 0.01; }  // Convert dodge chance to percentage
-
-
-    public void applySpellEffect(String spellType) {
-        double reductionAmount;
-
-        switch (spellType.toLowerCase()) {
-            case "ice":
-                reductionAmount = baseDamage * 0.1;
-                baseDamage = Math.max(0, (int)(baseDamage - reductionAmount));
-                System.out.println(name + "'s base damage reduced by " + (int)reductionAmount + ". New damage: " + baseDamage);
-                break;
-
-            case "fire":
-                reductionAmount = defense * 0.1;
-                defense = Math.max(0, (int)(defense - reductionAmount));
-                System.out.println(name + "'s defense reduced by " + (int)reductionAmount + ". New defense: " + defense);
-                break;
-
-            case "lightning":
-                reductionAmount = dodgeChance * 0.1;
-                dodgeChance = Math.max(0, (int)(dodgeChance - reductionAmount));
-                System.out.println(name + "'s dodge chance reduced by " + (int)reductionAmount + "%.");
-                break;
-
-            default:
-                System.out.println("Unknown spell type: no effect applied.");
+    public int getHealth() { return store.health[id]; }
+    public int getCurrentHealth() { return store.health[id]; }
+    public int getBaseDamage() { return store.damage[id]; }
+    public int getBaseDefense() { return store.defense[id]; }
+    public double getDodgeChance() { return store.dodge[id] * 0.01; }  // Convert dodge chance to percentage
+
+
+    /**
+     * Weakens this monster the way a spell of the given type does. The weakening wears off after the
+     * spell type's effect rounds, and fire spells also set the monster burning.
+     * @param spell The spell that hit
+     */
+    public void applySpellEffect(Spell spell) {
+        SpellType spellType = spell.getSpellType();
+        if (spellType == null) {
+            GameEventBus.getInstance().publish(GameEvent.Type.SPELL_EFFECT, this, null, 0, 0, null, null);
+            return;
+        }
+
+        int[] stat = spellType.getAffectedStat(store);
+        int before = stat[id];
+        stat[id] = spellType.reduce(before);
+        StatusEffects effects = StatusEffects.getInstance();
+        effects.addSpellDebuff(this, spellType, before - stat[id], spellType.getEffectRounds());
+        if (spellType.getBurnRounds() > 0) {
+            effects.addBurn(this, spellType.burnDamage(spell.getDamage()), spellType.getBurnRounds());
         }
+        GameEventBus.getInstance().publish(GameEvent.Type.SPELL_EFFECT, this, null, spellType.reductionOf(before), stat[id],
+                spellType, null);
+    }
+
+    /**
+     * Gives back an attribute reduction when a spell debuff wears off.
+     * @param spellType The type of the spell, which names the attribute
+     * @param amount How much the attribute was reduced by
+     */
+    public void restoreSpellEffect(SpellType spellType, int amount) {
+        spellType.getAffectedStat(store)[id] += amount;
     }
 
 
@@ -75,34 +79,38 @@ public class Monster extends Character implements Attackable<Hero> {
         
         Random random = new Random();
         
-        // Calculate damage: monster damage is based on its level and damage attribute
-        double damage = level * baseDamage * 0.1;
-        
         // Check if hero can dodge based on agility
-        double dodgeChance = target.getCurrentAgility() * 0.002; // 0.2% per agility point
-        if (random.nextDouble() < dodgeChance) {
-            // Use CombatLogger for dodge message
-            CombatLogger.getInstance().logMonsterAttack(this, target, 0, true);
+        if (random.nextDouble() < target.getDodgeChance()) {
+            GameEventBus.getInstance().publish(GameEvent.Type.MONSTER_ATTACK, this, target, 0, true);
             return;
         }
         
-        // If hero has armor, reduce damage
-        double reducedDamage = damage - target.getInventory().useArmor();
-        int finalDamage = (int) Math.max(reducedDamage, 0);
+        int finalDamage = getAttackDamage(target);
         
         // Apply damage to hero
         target.takeDamage(finalDamage);
         
-        // Use CombatLogger for attack message
-        CombatLogger.getInstance().logMonsterAttack(this, target, finalDamage, false);
+        GameEventBus.getInstance().publish(GameEvent.Type.MONSTER_ATTACK, this, target, finalDamage, false);
     }
+    /**
+     * Gets the damage an attack on a hero deals when it is not dodged: the monster's level times its damage
+     * attribute, less the hero's armor.
+     * @param target The hero being attacked
+     * @return The attack damage, never negative
+     */
+    public int getAttackDamage(Hero target) {
+        double damage = store.level[id] * store.damage[id] * 0.1;
+        double reducedDamage = damage - target.getInventory().useArmor();
+        return (int) Math.max(reducedDamage, 0);
+    }
+
      /*
     For Legends and Valor
      */
-    public int getMonsterRow() { return MonsterRow; }
-    public int getMonsterCol() { return MonsterCol; }
-    public void setMonsterRow(int monsterRow) { MonsterRow = monsterRow; }
-    public void setMonsterCol(int monsterCol) { MonsterCol = monsterCol; }
+    public int getMonsterRow() { return store.row[id]; }
+    public int getMonsterCol() { return store.col[id]; }
+    public void setMonsterRow(int monsterRow) { store.row[id] = monsterRow; }
+    public void setMonsterCol(int monsterCol) { store.col[id] = monsterCol; }
 
     @SuppressWarnings("unused")
     private void attackAdjacent(Hero target){
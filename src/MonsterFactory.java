@@ -3,9 +3,6 @@
  * dynamically generate monsters with specific attributes from data files.
  */
 
-import java.io.BufferedReader;
-import java.io.FileReader;
-import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
@@ -39,7 +36,7 @@ public class MonsterFactory {
         }
 
         // Create the specific monster instance based on the loaded data
-        return new Monster(monsterData.name, monsterData.level, monsterData.damage, monsterData.defense, monsterData.dodgeChance);
+        return MonsterPool.getInstance().acquire(monsterData.name, monsterData.level, monsterData.damage, monsterData.defense, monsterData.dodgeChance);
     }
 
     private MonsterData createScaledMonsterData(String monsterType, int level) {
@@ -78,34 +75,19 @@ public class MonsterFactory {
         }
 
         // Create the specific monster instance based on the loaded data
-        return new Monster(monsterData.name, monsterData.level, monsterData.damage, monsterData.defense, monsterData.dodgeChance);
+        return MonsterPool.getInstance().acquire(monsterData.name, monsterData.level, monsterData.damage, monsterData.defense, monsterData.dodgeChance);
     }
 
     private MonsterData loadMonsterData(String monsterType, int level) {
-        String filename = monsterType + "s.txt";  // e.g., Dragons.txt
+        DataTable table = Catalog.get().getTable(getDataFileForMonsterType(monsterType));
         List<MonsterData> matchingMonsters = new ArrayList<>();
 
-        try (BufferedReader reader = new BufferedReader(new FileReader("src/data/"+ filename))) {
-            // Skip the first line
-            reader.readLine();
-
-            String line;
-            while ((line = reader.readLine()) != null) {
-                String[] parts = line.split("\\s+");
-                if (parts.length == 5) {
-                    String name = parts[0];
-                    int monsterLevel = Integer.parseInt(parts[1]);
-                    int damage = Integer.parseInt(parts[2]);
-                    int defense = Integer.parseInt(parts[3]);
-                    int dodgeChance = Integer.parseInt(parts[4]);
-
-                    if (monsterLevel == level) {
-                        matchingMonsters.add(new MonsterData(name, monsterLevel, damage, defense, dodgeChance));
-                    }
-                }
+        for (int row = 0; row < table.size(); row++) {
+            int monsterLevel = table.getInt(row, 0);
+            if (monsterLevel == level) {
+                matchingMonsters.add(new MonsterData(table.getName(row), monsterLevel,
+                        table.getInt(row, 1), table.getInt(row, 2), table.getInt(row, 3)));
             }
-        } catch (IOException e) {
-            System.out.println("Error reading file " + filename + ": " + e.getMessage());
         }
 
         // Return a random monster from the matching list
@@ -114,6 +96,20 @@ public class MonsterFactory {
         }
         return null;
     }
+
+    // Map monster types to their data files, e.g. Dragon to Dragons.txt
+    private static DataFile getDataFileForMonsterType(String monsterType) {
+        switch (monsterType) {
+            case "Dragon":
+                return DataFile.DRAGONS;
+            case "Spirit":
+                return DataFile.SPIRITS;
+            case "Exoskeleton":
+                return DataFile.EXOSKELETONS;
+            default:
+                throw new IllegalArgumentException("Unknown monster type: " + monsterType);
+        }
+    }
 }
 
 class MonsterData {
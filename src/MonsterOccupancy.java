@@ -0,0 +1,167 @@
+import java.util.Arrays;
+
+/**
+ * Index of which monsters stand on which cell of a board, so area spells can find their targets by
+ * visiting only the cells they cover instead of testing every monster. The positioning and movement code
+ * reports every monster position change here, the same way it reports them to the NexusTracker.
+ *
+ * Each cell holds a chain of monsters threaded through arrays indexed by unit id, so moving a monster is
+ * O(1) and the index allocates nothing after it has grown to the largest unit id in play. Lookups check a
+ * monster's live position as well, so a missed update can only hide a monster, never hit the wrong one.
+ */
+public class MonsterOccupancy {
+    private static final int NONE = -1;
+
+    private final GridManager gridManager;
+    private int rows;
+    private int cols;
+    private int[] cellHead = new int[0];  // First unit id on each cell
+
+    // Indexed by unit id
+    private Monster[] monsters = new Monster[16];
+    private int[] cellOf = filled(16);
+    private int[] next = filled(16);
+    private int[] prev = filled(16);
+
+    // Results of the current area query
+    private Monster[] found = new Monster[8];
+    private int foundCount;
+
+    /**
+     * Creates an empty index for a board.
+     * @param gridManager The GridManager whose grid the index covers
+     */
+    public MonsterOccupancy(GridManager gridManager) {
+        this.gridManager = gridManager;
+    }
+
+    /**
+     * Records a monster's new position.
+     * @param monster The monster that moved or was placed
+     */
+    public void update(Monster monster) {
+        ensureGrid();
+        int id = monster.getUnitId();
+        ensureUnit(id);
+        unlink(id);
+
+        int row = monster.getMonsterRow();
+        int col = monster.getMonsterCol();
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return;
+        }
+        int cell = row * cols + col;
+        monsters[id] = monster;
+        cellOf[id] = cell;
+        prev[id] = NONE;
+        next[id] = cellHead[cell];
+        if (cellHead[cell] != NONE) {
+            prev[cellHead[cell]] = id;
+        }
+        cellHead[cell] = id;
+    }
+
+    /**
+     * Forgets a monster that has left play, before its unit slot can be reused.
+     * @param monster The monster to drop
+     */
+    public void remove(Monster monster) {
+        int id = monster.getUnitId();
+        if (id < monsters.length && monsters[id] == monster) {
+            unlink(id);
+            monsters[id] = null;
+        }
+    }
+
+    /**
+     * Starts a new area query, forgetting the results of the previous one.
+     */
+    public void clearResults() {
+        foundCount = 0;
+    }
+
+    /**
+     * Adds the living monsters standing on a cell to the query results. Cells off the board are ignored,
+     * and each cell should be collected at most once per query.
+     * @param row The cell's row
+     * @param col The cell's column
+     */
+    public void collect(int row, int col) {
+        if (row < 0 || row >= rows || col < 0 || col >= cols) {
+            return;
+        }
+        for (int id = cellHead[row * cols + col]; id != NONE; id = next[id]) {
+            Monster monster = monsters[id];
+            if (monster.isAlive() && monster.getMonsterRow() == row && monster.getMonsterCol() == col) {
+                if (foundCount == found.length) {
+                    Monster[] grown = new Monster[found.length * 2];
+                    System.arraycopy(found, 0, grown, 0, foundCount);
+                    found = grown;
+                }
+                found[foundCount++] = monster;
+            }
+        }
+    }
+
+    public int getResultCount() {
+        return foundCount;
+    }
+
+    public Monster getResult(int index) {
+        return found[index];
+    }
+
+    private void unlink(int id) {
+        int cell = cellOf[id];
+        if (cell == NONE) {
+            return;
+        }
+        if (prev[id] != NONE) {
+            next[prev[id]] = next[id];
+        } else {
+            cellHead[cell] = next[id];
+        }
+        if (next[id] != NONE) {
+            prev[next[id]] = prev[id];
+        }
+        cellOf[id] = NONE;
+        next[id] = NONE;
+        prev[id] = NONE;
+    }
+
+    // The grid is only laid out once the world has initialized its spaces
+    private void ensureGrid() {
+        Space[][] grid = gridManager.getGrid();
+        if (grid.length != rows || (rows > 0 && grid[0].length != cols)) {
+            rows = grid.length;
+            cols = rows > 0 ? grid[0].length : 0;
+            cellHead = filled(rows * cols);
+            Arrays.fill(cellOf, NONE);
+            Arrays.fill(next, NONE);
+            Arrays.fill(prev, NONE);
+        }
+    }
+
+    private void ensureUnit(int id) {
+        if (id < monsters.length) {
+            return;
+        }
+        int capacity = Math.max(monsters.length * 2, id + 1);
+        monsters = Arrays.copyOf(monsters, capacity);
+        cellOf = grow(cellOf, capacity);
+        next = grow(next, capacity);
+        prev = grow(prev, capacity);
+    }
+
+    private static int[] grow(int[] array, int capacity) {
+        int[] grown = filled(capacity);
+        System.arraycopy(array, 0, grown, 0, array.length);
+        return grown;
+    }
+
+    private static int[] filled(int size) {
+        int[] array = new int[size];
+        Arrays.fill(array, NONE);
+        return array;
+    }
+}
@@ -0,0 +1,23 @@
+/**
+ * Strategy interface for monster decision making in Legends of Valor.
+ * Candidate heroes are passed as parallel primitive arrays so implementations can
+ * score them in a tight loop without boxing, collections or streams.
+ */
+public interface MonsterPolicy {
+    /**
+     * Returned by {@link #chooseTarget} when the monster should not attack this turn.
+     */
+    int NO_TARGET = -1;
+
+    /**
+     * Chooses which candidate hero a monster should attack.
+     * Only the first {@code count} entries of each array are valid.
+     * @param monster The monster taking its turn
+     * @param heroHealth Current health of each candidate hero
+     * @param heroArmor Damage reduction of the armor each candidate has equipped
+     * @param heroDistance Manhattan distance between the monster and each candidate
+     * @param count Number of candidates in the arrays
+     * @return The index of the chosen candidate, or NO_TARGET to skip the attack
+     */
+    int chooseTarget(Monster monster, int[] heroHealth, int[] heroArmor, int[] heroDistance, int count);
+}
@@ -0,0 +1,61 @@
+import java.util.ArrayDeque;
+
+/**
+ * Keeps defeated monsters for reuse, so that later waves are built from existing Monster objects and
+ * their UnitStore slots instead of new allocations. A reused monster is re-initialized through
+ * Monster.setAttributes, which restores full health.
+ *
+ * Like the UnitStore, the pool is not thread-safe.
+ */
+public class MonsterPool {
+    private static final int MAX_POOLED = 32;
+    private static MonsterPool instance;
+
+    private final ArrayDeque<Monster> free = new ArrayDeque<>();
+
+    private MonsterPool() {
+    }
+
+    public static MonsterPool getInstance() {
+        if (instance == null) {
+            instance = new MonsterPool();
+        }
+        return instance;
+    }
+
+    /**
+     * Gets a monster with the given stats, reusing a pooled one when available.
+     * @param name The monster name
+     * @param level The monster level
+     * @param damage The base damage
+     * @param defense The defense
+     * @param dodgeChance The dodge chance in percent
+     * @return A monster at full health
+     */
+    public Monster acquire(String name, int level, int damage, int defense, int dodgeChance) {
+        Monster monster = free.pollLast();
+        if (monster == null) {
+            return new Monster(name, level, damage, defense, dodgeChance);
+        }
+        monster.setAttributes(name, level, damage, defense, dodgeChance);
+        return monster;
+    }
+
+    /**
+     * Returns a monster that is no longer in play. The caller must drop every reference to it.
+     * If the pool is full the monster's store slot is released instead.
+     * @param monster The monster to return
+     */
+    public void release(Monster monster) {
+        StatusEffects.getInstance().cancelAll(monster);  // A pooled monster comes back without old debuffs
+        if (free.size() < MAX_POOLED) {
+            free.addLast(monster);
+        } else {
+            monster.release();
+        }
+    }
+
+    public int getPooledCount() {
+        return free.size();
+    }
+}
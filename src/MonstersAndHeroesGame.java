@@ -1,5 +1,6 @@
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Random;
 
 /**
  * Implements the original Monsters and Heroes game.
@@ -10,6 +11,8 @@ public class MonstersAndHeroesGame {
     private World world;
     private Market market;
     private boolean isGameOver;
+    private boolean autoBattles;  // Resolve battles with the battle policy and show only a summary
+    private final HeroPolicy battlePolicy = new GreedyHeroPolicy();
 
     /**
      * Creates a new Monsters and Heroes game instance
@@ -22,8 +25,8 @@ public class MonstersAndHeroesGame {
         // Initialize heroes
         setupHeroes();
         
-        // Create a standard world (8x8 is typical for the original game)
-        this.world = new World(8, 8);
+        // Create an open world, generated chunk by chunk as the party explores
+        this.world = new ChunkedWorld(new Random().nextLong());
     }
 
     /**
@@ -42,7 +45,7 @@ public class MonstersAndHeroesGame {
             displayHeroesStatus();
             
             // Get player command
-            System.out.println("Use W/A/S/D for movement, I for info, M for market, and Q to quit.");
+            System.out.println("Use W/A/S/D for movement, I for info, M for market, B to toggle auto battles, and Q to quit.");
             String command = InputHandler.getInstance().getCommand().toLowerCase();
             
             // Process the command
@@ -51,6 +54,17 @@ public class MonstersAndHeroesGame {
         
         System.out.println("Game Over. Thank you for playing Monsters and Heroes!");
     }
+
+    /**
+     * Ends the session and hands the heroes' store slots back. Battle monsters are already returned to
+     * the MonsterPool when each battle ends. The game must not be used afterwards.
+     */
+    public void release() {
+        for (Hero hero : heroes) {
+            hero.release();
+        }
+        heroes.clear();
+    }
     
     /**
      * Processes a player command
@@ -95,6 +109,12 @@ public class MonstersAndHeroesGame {
                 showHeroStats();
                 break;
                 
+            case "b":
+                autoBattles = !autoBattles;
+                System.out.println("Auto battles " + (autoBattles ? "on: battles resolve on their own and show a summary."
+                        : "off: you choose every hero's action in battle."));
+                break;
+                
             case "m":
                 if (world.isInMarketSpace()) {
                     enterMarket();
@@ -104,7 +124,7 @@ public class MonstersAndHeroesGame {
                 break;
                 
             default:
-                System.out.println("Invalid command. Use W/A/S/D for movement, I for info, M for market, and Q to quit.");
+                System.out.println("Invalid command. Use W/A/S/D for movement, I for info, M for market, B to toggle auto battles, and Q to quit.");
                 break;
         }
     }
@@ -185,7 +205,10 @@ public class MonstersAndHeroesGame {
         
         // Begin the battle
         Battle battle = new Battle(heroes, monsters);
-        boolean victory = battle.startBattle();
+        boolean victory = autoBattles ? battle.autoResolve(battlePolicy) : battle.startBattle();
+        for (Monster monster : monsters) {
+            MonsterPool.getInstance().release(monster);
+        }
         
         if (victory) {
             System.out.println("Victory! Your heroes have defeated the monsters!");
@@ -327,26 +350,21 @@ public class MonstersAndHeroesGame {
                 break;
             case 2:
                 // Find potions in inventory
-                List<Item> potions = new ArrayList<>();
-                for (Item item : hero.getInventory().getItems()) {
-                    if (item instanceof Potion) {
-                        potions.add(item);
-                    }
-                }
+                List<Potion> potions = hero.getInventory().getPotions();
                 
                 if (potions.isEmpty()) {
                     System.out.println("No potions in inventory.");
                 } else {
                     System.out.println("\nAvailable Potions:");
                     for (int i = 0; i < potions.size(); i++) {
-                        Potion potion = (Potion) potions.get(i);
-                        System.out.println((i + 1) + ". " + potion.getName() + " (+" + potion.getAttributeIncrease() + " " + potion.getAttributeAffected() + ")");
+                        Potion potion = potions.get(i);
+                        System.out.println((i + 1) + ". " + potion.getName() + " x" + hero.getInventory().getStackCount(potion.getName()) + " (+" + potion.getAttributeIncrease() + " " + potion.getAttributeAffected() + ")");
                     }
                     
                     int potionChoice = InputHandler.getInstance().getIntInput("Select a potion to use (0 to cancel): ");
                     
                     if (potionChoice > 0 && potionChoice <= potions.size()) {
-                        Potion selectedPotion = (Potion) potions.get(potionChoice - 1);
+                        Potion selectedPotion = potions.get(potionChoice - 1);
                         
                         // Apply potion effect
                         String attribute = selectedPotion.getAttributeAffected();
@@ -365,7 +383,7 @@ public class MonstersAndHeroesGame {
                         }
                         
                         // Remove the used potion from inventory
-                        hero.getInventory().getItems().remove(selectedPotion);
+                        hero.getInventory().removeItem(selectedPotion);
                         System.out.println(hero.getName() + " used " + selectedPotion.getName() + "!");
                     }
                 }
@@ -1,22 +1,44 @@
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Handles movement logic for heroes and monsters in the game.
  * Validates movements, calculates new positions, and manages teleportation and recall.
  */
 public class MovementSystem {
+    // Reasons a move is turned down, shown to the player by the console renderer
+    private static final String INVALID_DIRECTION = "Invalid direction.";
+    private static final String DIRECTION_HELP = "Invalid direction. Use w (up), a (left), s (down), d (right).";
+    private static final String OUTSIDE_AREA = "Cannot move outside the game area.";
+    private static final String HERO_OBSTACLE = "There's an obstacle in the way. You need to remove it first before moving there.";
+    private static final String INVALID_POSITION = "Move failed: Invalid position.";
+    private static final String INACCESSIBLE = "You cannot move to an inaccessible space.";
+    private static final String OCCUPIED = "This space is already occupied by another character.";
+    private static final String SAME_LANE = "Teleport failed: Must teleport to a different lane.";
+    private static final String NO_ADJACENT_SPACE = "Teleport failed: No valid adjacent space.";
+    private static final String RECALL_FAILED = "Recall failed.";
+
     private GridManager gridManager;
     private CharacterPositioner positioner;
     private TerrainEffectHandler terrainHandler;
+    private NexusTracker nexusTracker;
+    private MonsterOccupancy monsterOccupancy;
 
     /**
      * Creates a new MovementSystem with references to required systems.
      * @param gridManager The GridManager for grid access
      * @param positioner The CharacterPositioner for updating positions
      * @param terrainHandler The TerrainEffectHandler for applying terrain effects
+     * @param nexusTracker The tracker to report moves that bypass the positioner to
+     * @param monsterOccupancy The index to report monster moves that bypass the positioner to
      */
-    public MovementSystem(GridManager gridManager, CharacterPositioner positioner, TerrainEffectHandler terrainHandler) {
+    public MovementSystem(GridManager gridManager, CharacterPositioner positioner, TerrainEffectHandler terrainHandler,
+                          NexusTracker nexusTracker, MonsterOccupancy monsterOccupancy) {
         this.gridManager = gridManager;
         this.positioner = positioner;
         this.terrainHandler = terrainHandler;
+        this.nexusTracker = nexusTracker;
+        this.monsterOccupancy = monsterOccupancy;
     }
 
     /**
@@ -43,6 +65,7 @@ public class MovementSystem {
             if (nexus != null && nexus.length == 2) {
                 hero.setHeroRow(nexus[0]);
                 hero.setHeroCol(nexus[1]);
+                nexusTracker.update(hero);
                 System.out.println("Hero has been teleported back to their nexus.");
             }
             return false;
@@ -50,7 +73,7 @@ public class MovementSystem {
 
         int[] newPosition = calculateNewPosition(currentRow, currentCol, direction);
         if (newPosition == null) {
-            System.out.println("Invalid direction.");
+            reject(hero, INVALID_DIRECTION);
             return false; // Invalid direction
         }
 
@@ -59,14 +82,14 @@ public class MovementSystem {
 
         // Check new position is within grid boundaries
         if (!gridManager.isValidPosition(newRow, newCol)) {
-            System.out.println("Cannot move outside the game area.");
+            reject(hero, OUTSIDE_AREA);
             return false;
         }
 
         if (isValidMove(newRow, newCol)) {
             // Check if the space is an obstacle - heroes cannot enter obstacle spaces
             if (grid[newRow][newCol] instanceof ObstacleSpace) {
-                System.out.println("There's an obstacle in the way. You need to remove it first before moving there.");
+                reject(hero, HERO_OBSTACLE);
                 return false;
             }
             
@@ -100,10 +123,10 @@ public class MovementSystem {
                 // Continue anyway
             }
 
-            System.out.println("Moved " + hero.getName() + " " + direction + ".");
+            GameEventBus.getInstance().publish(GameEvent.Type.MOVED, hero, direction, null);
             return true;
         } else {
-            System.out.println("Move failed: Invalid position.");
+            reject(hero, INVALID_POSITION);
             return false;
         }
     }
@@ -140,13 +163,14 @@ public class MovementSystem {
                 gridManager.isValidPosition(nexus[0], nexus[1])) {
                 teleportingHero.setHeroRow(nexus[0]);
                 teleportingHero.setHeroCol(nexus[1]);
+                nexusTracker.update(teleportingHero);
                 System.out.println("Teleporting hero has been recovered to their nexus.");
             }
             return false;
         }
 
         if (Math.abs(teleportingHeroCol - targetCol) <= 1) {
-            System.out.println("Teleport failed: Must teleport to a different lane.");
+            reject(teleportingHero, SAME_LANE);
             return false;
         }
 
@@ -181,7 +205,7 @@ public class MovementSystem {
                     continue; // Try next position if this one fails
                 }
                 
-                System.out.println("Teleport successful.");
+                GameEventBus.getInstance().publish(GameEvent.Type.TELEPORTED, teleportingHero, targetHero, 0, false);
                 
                 // Apply terrain effect after teleporting (with error handling)
                 try {
@@ -194,7 +218,7 @@ public class MovementSystem {
             }
         }
 
-        System.out.println("Teleport failed: No valid adjacent space.");
+        reject(teleportingHero, NO_ADJACENT_SPACE);
         return false;
     }
 
@@ -211,10 +235,10 @@ public class MovementSystem {
 
         int[] nexus = hero.getNexus();
         if (!positioner.setHeroLocation(hero, nexus[0], nexus[1])) {
-            System.out.println("Recall failed.");
+            reject(hero, RECALL_FAILED);
             return false;
         }
-        System.out.println("Recalling " + hero.getName());
+        GameEventBus.getInstance().publish(GameEvent.Type.RECALLED, hero);
         terrainHandler.applyTerrainEffect(hero, gridManager.getGrid()[nexus[0]][nexus[1]]); // Apply terrain effect after recall
         return true;
     }
@@ -237,7 +261,7 @@ public class MovementSystem {
 
         int[] newPosition = calculateNewPosition(currentRow, currentCol, direction);
         if (newPosition == null) {
-            System.out.println("Invalid direction.");
+            reject(monster, INVALID_DIRECTION);
             return false; // Invalid direction
         }
 
@@ -247,21 +271,46 @@ public class MovementSystem {
         if (isValidMove(newRow, newCol)) {
             // Check if the space is an obstacle - monsters cannot enter obstacle spaces
             if (grid[newRow][newCol] instanceof ObstacleSpace) {
-                System.out.println("There's an obstacle blocking " + monster.getName() + "'s path.");
+                GameEventBus.getInstance().publish(GameEvent.Type.PATH_BLOCKED, monster);
                 return false;
             }
             
             // Update monster position
             monster.setMonsterRow(newRow);
             monster.setMonsterCol(newCol);
-            System.out.println("Moved " + monster.getName() + " " + direction + ".");
+            nexusTracker.update(monster);
+            monsterOccupancy.update(monster);
+            GameEventBus.getInstance().publish(GameEvent.Type.MOVED, monster, direction, null);
             return true;
         } else {
-            System.out.println("Move failed: Invalid position.");
+            reject(monster, INVALID_POSITION);
             return false;
         }
     }
 
+    /**
+     * Lists the directions a hero can move in without hitting a wall, obstacle or occupied space.
+     * @param hero The hero to check
+     * @return The valid directions among w, a, s and d
+     */
+    public List<String> getValidDirections(Hero hero) {
+        List<String> directions = new ArrayList<>();
+        int row = hero.getHeroRow();
+        int col = hero.getHeroCol();
+        Space[][] grid = gridManager.getGrid();
+
+        String[] names = {"w", "a", "s", "d"};
+        int[][] offsets = {{-1, 0}, {0, -1}, {1, 0}, {0, 1}};
+        for (int i = 0; i < names.length; i++) {
+            int newRow = row + offsets[i][0];
+            int newCol = col + offsets[i][1];
+            if (isValidMoveNoPrint(newRow, newCol) && !(grid[newRow][newCol] instanceof ObstacleSpace)) {
+                directions.add(names[i]);
+            }
+        }
+        return directions;
+    }
+
     /**
      * Calculates a new position based on the current position and direction.
      * @param currentRow Current row
@@ -293,13 +342,13 @@ public class MovementSystem {
                 newCol++;
                 break;
             default:
-                System.out.println("Invalid direction. Use w (up), a (left), s (down), d (right).");
+                reject(null, DIRECTION_HELP);
                 return null;
         }
 
         // Check if the new position is within the grid boundaries
         if (!gridManager.isValidPosition(newRow, newCol)) {
-            System.out.println("Cannot move outside the game area.");
+            reject(null, OUTSIDE_AREA);
             return null;
         }
 
@@ -323,13 +372,13 @@ public class MovementSystem {
         
         // Check if the space is inaccessible
         if (grid[row][col] instanceof InaccessibleSpace) {
-            System.out.println("You cannot move to an inaccessible space.");
+            reject(null, INACCESSIBLE);
             return false;
         }
         
         // Check if the space is already occupied by another character
         if (grid[row][col].getOccupant() != null) {
-            System.out.println("This space is already occupied by another character.");
+            reject(null, OCCUPIED);
             return false;
         }
         
@@ -362,4 +411,13 @@ public class MovementSystem {
         
         return true;
     }
-} 
\ No newline at end of file
+
+    /**
+     * Publishes why a move was turned down.
+     * @param character The character that tried to move, or null if not known here
+     * @param reason One of the reason constants
+     */
+    private void reject(Character character, String reason) {
+        GameEventBus.getInstance().publish(GameEvent.Type.MOVE_REJECTED, character, null, reason);
+    }
+}
@@ -0,0 +1,103 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps track of which heroes stand in the monsters' Nexus and which monsters stand in the heroes' Nexus.
+ * The movement and positioning code reports every position change here, so checking for a winner
+ * only has to look at the few units already recorded as being in a Nexus instead of scanning every unit.
+ */
+public class NexusTracker {
+    private static final int MONSTER_NEXUS_ROW = 0;
+
+    private final GridManager gridManager;
+    // Units recorded as standing in the opposing Nexus; rarely more than one or two
+    private final List<Hero> heroesInNexus = new ArrayList<>();
+    private final List<Monster> monstersInNexus = new ArrayList<>();
+
+    /**
+     * Creates a tracker for a board.
+     * @param gridManager The GridManager whose grid holds the Nexus spaces
+     */
+    public NexusTracker(GridManager gridManager) {
+        this.gridManager = gridManager;
+    }
+
+    /**
+     * Records a hero's new position.
+     * @param hero The hero that moved
+     */
+    public void update(Hero hero) {
+        boolean inNexus = isNexus(hero.getHeroRow(), hero.getHeroCol(), MONSTER_NEXUS_ROW);
+        if (inNexus != heroesInNexus.contains(hero)) {
+            if (inNexus) {
+                heroesInNexus.add(hero);
+            } else {
+                heroesInNexus.remove(hero);
+            }
+        }
+    }
+
+    /**
+     * Records a monster's new position.
+     * @param monster The monster that moved
+     */
+    public void update(Monster monster) {
+        boolean inNexus = isNexus(monster.getMonsterRow(), monster.getMonsterCol(), heroNexusRow());
+        if (inNexus != monstersInNexus.contains(monster)) {
+            if (inNexus) {
+                monstersInNexus.add(monster);
+            } else {
+                monstersInNexus.remove(monster);
+            }
+        }
+    }
+
+    /**
+     * Gets a living monster standing in the heroes' Nexus.
+     * @return The monster, or null if there is none
+     */
+    public Monster getMonsterInNexus() {
+        for (int i = 0; i < monstersInNexus.size(); i++) {
+            Monster monster = monstersInNexus.get(i);
+            if (monster.isAlive() && monster.getMonsterRow() == heroNexusRow()) {
+                return monster;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets a living hero standing in the monsters' Nexus.
+     * @return The hero, or null if there is none
+     */
+    public Hero getHeroInNexus() {
+        for (int i = 0; i < heroesInNexus.size(); i++) {
+            Hero hero = heroesInNexus.get(i);
+            if (hero.isAlive() && hero.getHeroRow() == MONSTER_NEXUS_ROW) {
+                return hero;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks whether a hero stands in the heroes' own Nexus, where the market is open to them.
+     * @param hero The hero to check
+     * @return true if the hero's cell is a Nexus cell on the heroes' Nexus row
+     */
+    public boolean isInHeroNexus(Hero hero) {
+        return isNexus(hero.getHeroRow(), hero.getHeroCol(), heroNexusRow());
+    }
+
+    private int heroNexusRow() {
+        return gridManager.getGrid().length - 1;
+    }
+
+    private boolean isNexus(int row, int col, int nexusRow) {
+        if (row != nexusRow || !gridManager.isValidPosition(row, col)) {
+            return false;
+        }
+        byte terrain = gridManager.getGrid()[row][col].getTerrainCode();
+        return terrain == GameState.HERO_NEXUS || terrain == GameState.MONSTER_NEXUS;
+    }
+}
@@ -3,4 +3,9 @@ public class ObstacleSpace extends Space {
     public String getSymbol() {
         return "O";
     }
+
+    @Override
+    public byte getTerrainCode() {
+        return GameState.OBSTACLE;
+    }
 } 
\ No newline at end of file
@@ -0,0 +1,113 @@
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list of items used by GameState to represent a hero's inventory.
+ * Adding an item is O(1) and shares the whole existing list; removing an item copies only
+ * the nodes in front of it. Forked game states can therefore share inventories freely.
+ */
+public final class PersistentInventory implements Iterable<Item> {
+    private static final PersistentInventory EMPTY = new PersistentInventory(null, null, 0);
+
+    private final Item head;
+    private final PersistentInventory tail;
+    private final int size;
+
+    private PersistentInventory(Item head, PersistentInventory tail, int size) {
+        this.head = head;
+        this.tail = tail;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty inventory.
+     * @return The shared empty instance
+     */
+    public static PersistentInventory empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Builds a persistent inventory holding the given items.
+     * @param items The items to copy in
+     * @return A persistent inventory with the same items
+     */
+    public static PersistentInventory of(List<? extends Item> items) {
+        PersistentInventory result = EMPTY;
+        for (int i = items.size() - 1; i >= 0; i--) {
+            result = new PersistentInventory(items.get(i), result, result.size + 1);
+        }
+        return result;
+    }
+
+    /**
+     * Returns a new inventory with an item added to the front. This inventory is unchanged.
+     * @param item The item to add
+     * @return The new inventory
+     */
+    public PersistentInventory add(Item item) {
+        return new PersistentInventory(item, this, size + 1);
+    }
+
+    /**
+     * Returns a new inventory with the first occurrence of an item removed. This inventory is unchanged.
+     * @param item The item to remove
+     * @return The new inventory, or this inventory if the item is not present
+     */
+    public PersistentInventory remove(Item item) {
+        if (size == 0) {
+            return this;
+        }
+        if (head == item) {
+            return tail;
+        }
+        PersistentInventory rest = tail.remove(item);
+        return rest == tail ? this : new PersistentInventory(head, rest, rest.size + 1);
+    }
+
+    /**
+     * Counts the items of a given type.
+     * @param type The item class to count
+     * @return The number of matching items
+     */
+    public int count(Class<? extends Item> type) {
+        int count = 0;
+        for (PersistentInventory node = this; node.size > 0; node = node.tail) {
+            if (type.isInstance(node.head)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public Iterator<Item> iterator() {
+        return new Iterator<Item>() {
+            private PersistentInventory node = PersistentInventory.this;
+
+            @Override
+            public boolean hasNext() {
+                return node.size > 0;
+            }
+
+            @Override
+            public Item next() {
+                if (node.size == 0) {
+                    throw new NoSuchElementException();
+                }
+                Item item = node.head;
+                node = node.tail;
+                return item;
+            }
+        };
+    }
+}
@@ -4,20 +4,27 @@
  */
 
 public class Potion extends Item implements Buyable, Consumable {
-    private int attributeIncrease;
-    private String attributeAffected;
 
     public Potion(String name, int cost, int levelRequirement, int attributeIncrease, String attributeAffected) {
-        super(name, cost, levelRequirement,"Potion");
-        this.attributeIncrease = attributeIncrease;
-        this.attributeAffected = attributeAffected;
+        this(ItemDefinition.potion(name, cost, levelRequirement, attributeIncrease, attributeAffected));
     }
 
-    public int getAttributeIncrease() { return attributeIncrease; }
-    public String getAttributeAffected() { return attributeAffected; }
+    public Potion(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public Potion newInstance() {
+        return new Potion(definition);
+    }
+
+    public int getAttributeIncrease() { return definition.getAttributeIncrease(); }
+    public String getAttributeAffected() { return definition.getAttributeAffected(); }
 
     @Override
     public void use(Hero hero) {
+        int attributeIncrease = getAttributeIncrease();
+        String attributeAffected = getAttributeAffected();
         switch (attributeAffected.toLowerCase()) {
             case "health":
                 hero.increaseHealth(attributeIncrease);
@@ -0,0 +1,52 @@
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kills a child process that is still running at a deadline. The benchmark tools read a child's output
+ * with blocking reads, which cannot notice a deadline on their own; killing the child closes its output,
+ * so a read blocked on a hung child returns end of stream and the caller can ask the watchdog why.
+ */
+public final class ProcessWatchdog {
+    private final Process process;
+    private final long deadline;
+    private volatile boolean fired;
+
+    private ProcessWatchdog(Process process, long deadline) {
+        this.process = process;
+        this.deadline = deadline;
+    }
+
+    /**
+     * Starts watching a process on a daemon thread. The watch ends when the process exits.
+     * @param process The child process
+     * @param deadline The System.nanoTime() value at which the process is killed
+     * @return The running watchdog
+     */
+    public static ProcessWatchdog start(Process process, long deadline) {
+        ProcessWatchdog watchdog = new ProcessWatchdog(process, deadline);
+        Thread thread = new Thread(watchdog::watch, "process-watchdog");
+        thread.setDaemon(true);
+        thread.start();
+        return watchdog;
+    }
+
+    /**
+     * Tells whether the process was killed for missing the deadline.
+     * @return true if the watchdog killed the process
+     */
+    public boolean hasFired() {
+        return fired;
+    }
+
+    private void watch() {
+        try {
+            long remaining = Math.max(deadline - System.nanoTime(), 0);
+            if (!process.waitFor(remaining, TimeUnit.NANOSECONDS)) {
+                // Flag before killing, so a reader woken by the kill already sees the cause
+                fired = true;
+                process.destroyForcibly();
+            }
+        } catch (InterruptedException e) {
+            // Stop watching
+        }
+    }
+}
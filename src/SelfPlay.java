@@ -0,0 +1,124 @@
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Runs unattended Legends of Valor games with bot-driven heroes, for load tests and
+ * self-play data generation. Game events are not rendered at all, since nobody would see them,
+ * and any remaining console output from the games is discarded; only a summary is printed.
+ *
+ * Usage: java SelfPlay [games] [greedy|lookahead] [difficulty] [maxRounds]
+ */
+public class SelfPlay {
+    private static final String[] HERO_CLASSES = {"Warrior", "Sorcerer", "Paladin"};
+
+    public static void main(String[] args) {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 100;
+        String policyName = args.length > 1 ? args[1] : "greedy";
+        int difficulty = args.length > 2 ? Integer.parseInt(args[2]) : 2;
+        int maxRounds = args.length > 3 ? Integer.parseInt(args[3]) : 200;
+
+        HeroPolicy policy = createPolicy(policyName);
+        if (policy == null) {
+            System.out.println("Unknown policy: " + policyName + ". Use greedy or lookahead.");
+            return;
+        }
+
+        int heroWins = 0;
+        int monsterWins = 0;
+        int unfinished = 0;
+        long totalRounds = 0;
+
+        // With no listeners the bus drops events before any message is formatted
+        GameEventBus events = GameEventBus.getInstance();
+        GameEventListener[] listeners = events.getListeners();
+        events.setListeners();
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                // Discard game output
+            }
+        }));
+
+        long start = System.nanoTime();
+        try {
+            for (int i = 0; i < games; i++) {
+                int result = playGame(policy, difficulty, maxRounds);
+                if (result > 0) {
+                    heroWins++;
+                    totalRounds += result;
+                } else if (result < 0) {
+                    monsterWins++;
+                    totalRounds += -result;
+                } else {
+                    unfinished++;
+                    totalRounds += maxRounds;
+                }
+            }
+        } finally {
+            System.setOut(console);
+            events.setListeners(listeners);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("=== SELF-PLAY SUMMARY (" + policyName + ") ===");
+        System.out.println("Games played: " + games);
+        System.out.println("Hero wins: " + heroWins + " | Monster wins: " + monsterWins + " | Unfinished: " + unfinished);
+        System.out.println("Average rounds: " + (games > 0 ? totalRounds / games : 0));
+        System.out.printf("Elapsed: %.2fs (%.0f games/minute)%n", seconds, games / Math.max(seconds, 1e-9) * 60);
+    }
+
+    /**
+     * Plays one game to completion or until the round limit.
+     * @return The number of rounds played, positive for a hero win, negative for a monster win, or 0 if unfinished
+     */
+    static int playGame(HeroPolicy policy, int difficulty, int maxRounds) {
+        List<Hero> heroes = new ArrayList<>();
+        for (int i = 0; i < HERO_CLASSES.length; i++) {
+            heroes.add(new Hero("Bot" + (i + 1), HERO_CLASSES[i]));
+        }
+        List<Monster> monsters = new GameSetup().spawnMonsters(1);
+
+        lovWorld world = new lovWorld(8, 8);
+        world.initializeHeroesAndMonsters(heroes, monsters);
+
+        TurnManager turnManager = new TurnManager(heroes, monsters, world, difficulty);
+        turnManager.setHeroPolicy(policy);
+
+        try {
+            while (turnManager.getRound() <= maxRounds) {
+                if (turnManager.executeRound()) {
+                    int rounds = turnManager.getRound();
+                    for (Hero hero : heroes) {
+                        if (hero.isAlive() && hero.getHeroRow() == 0) {
+                            return rounds;
+                        }
+                    }
+                    return -rounds;
+                }
+            }
+            return 0;
+        } finally {
+            // Hand the units' store slots back so long runs reuse them
+            for (Hero hero : heroes) {
+                hero.release();
+            }
+            for (Monster monster : monsters) {
+                MonsterPool.getInstance().release(monster);
+            }
+        }
+    }
+
+    static HeroPolicy createPolicy(String name) {
+        switch (name.toLowerCase()) {
+            case "greedy":
+                return new GreedyHeroPolicy();
+            case "lookahead":
+                return new LookaheadHeroPolicy();
+            default:
+                return null;
+        }
+    }
+}
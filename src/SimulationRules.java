@@ -0,0 +1,301 @@
+import java.util.Random;
+
+/**
+ * Applies the Legends of Valor combat and movement rules to a GameState.
+ * Formulas mirror Hero.attack, Monster.attack, CombatSystem, MovementSystem and SpellSystem,
+ * but operate on primitive columns so search code can play thousands of rounds quickly.
+ * Terrain bonuses, shopping and experience are not modelled.
+ */
+public final class SimulationRules {
+    // Hero action encoding: small constants for moves, offsets plus the monster index for attacks and spells
+    public static final int SKIP = 0;
+    public static final int MOVE_UP = 1;
+    public static final int MOVE_LEFT = 2;
+    public static final int MOVE_DOWN = 3;
+    public static final int MOVE_RIGHT = 4;
+    public static final int ATTACK = 100;
+    public static final int CAST = 200;
+
+    private static final int[] MOVE_ROW = {0, -1, 0, 1, 0};
+    private static final int[] MOVE_COL = {0, 0, -1, 0, 1};
+    private static final String[] MOVE_KEYS = {"", "w", "a", "s", "d"};
+
+    private SimulationRules() {
+    }
+
+    /**
+     * Lists the actions a hero may take in a state.
+     * @param state The game state
+     * @param hero The hero index
+     * @param out Buffer to write the actions into; must hold at least 5 + 2 * monsters entries
+     * @return The number of actions written
+     */
+    public static int legalActions(GameState state, int hero, int[] out) {
+        int count = 0;
+        out[count++] = SKIP;
+        if (!state.isAlive(hero)) {
+            return count;
+        }
+
+        int row = state.get(GameState.ROW, hero);
+        int col = state.get(GameState.COL, hero);
+        for (int move = MOVE_UP; move <= MOVE_RIGHT; move++) {
+            int newRow = row + MOVE_ROW[move];
+            int newCol = col + MOVE_COL[move];
+            if (state.isPassable(newRow, newCol) && state.unitAt(newRow, newCol) < 0) {
+                out[count++] = move;
+            }
+        }
+
+        boolean canCast = bestSpell(state, hero) != null;
+        int heroCount = state.getHeroCount();
+        for (int m = 0; m < state.getMonsterCount(); m++) {
+            int unit = heroCount + m;
+            if (state.isAlive(unit) && inHeroRange(state, hero, unit)) {
+                out[count++] = ATTACK + m;
+                if (canCast) {
+                    out[count++] = CAST + m;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Applies one hero action to a state.
+     * @param state The state to modify
+     * @param hero The hero index
+     * @param action The encoded action
+     * @param random Source of randomness for dodge rolls
+     */
+    public static void applyHeroAction(GameState state, int hero, int action, Random random) {
+        if (action >= MOVE_UP && action <= MOVE_RIGHT) {
+            state.set(GameState.ROW, hero, state.get(GameState.ROW, hero) + MOVE_ROW[action]);
+            state.set(GameState.COL, hero, state.get(GameState.COL, hero) + MOVE_COL[action]);
+        } else if (action >= CAST) {
+            castSpell(state, hero, state.getHeroCount() + action - CAST);
+        } else if (action >= ATTACK) {
+            heroAttack(state, hero, state.getHeroCount() + action - ATTACK, random);
+        }
+    }
+
+    /**
+     * Plays the rest of a round after a hero has acted: the other heroes follow the default
+     * policy, monsters attack or advance, then heroes regenerate and fallen heroes respawn.
+     * @param state The state to modify
+     * @param actingHero The hero that already acted this round
+     * @param random Source of randomness
+     * @param buffer Scratch buffer for legal actions
+     */
+    public static void finishRound(GameState state, int actingHero, Random random, int[] buffer) {
+        for (int h = 0; h < state.getHeroCount(); h++) {
+            if (h != actingHero && state.isAlive(h) && winner(state) == 0) {
+                applyHeroAction(state, h, defaultHeroAction(state, h, random, buffer, 0.0), random);
+            }
+        }
+
+        int heroCount = state.getHeroCount();
+        for (int m = 0; m < state.getMonsterCount() && winner(state) == 0; m++) {
+            int unit = heroCount + m;
+            if (state.isAlive(unit)) {
+                monsterTurn(state, unit, random);
+            }
+        }
+
+        for (int h = 0; h < heroCount; h++) {
+            if (state.isAlive(h)) {
+                regenerate(state, h, GameState.HEALTH, GameState.MAX_HEALTH);
+                regenerate(state, h, GameState.MANA, GameState.MAX_MANA);
+            } else {
+                // CombatSystem.respawnHero restores the hero at its nexus
+                state.set(GameState.HEALTH, h, state.get(GameState.MAX_HEALTH, h));
+                state.set(GameState.MANA, h, state.get(GameState.MAX_MANA, h));
+                state.set(GameState.ROW, h, state.get(GameState.NEXUS_ROW, h));
+                state.set(GameState.COL, h, state.get(GameState.NEXUS_COL, h));
+            }
+        }
+        state.setRound(state.getRound() + 1);
+    }
+
+    /**
+     * Picks a reasonable action for a hero: finish or hit the weakest monster in range,
+     * otherwise advance toward the monsters' Nexus.
+     * @param state The game state
+     * @param hero The hero index
+     * @param random Source of randomness
+     * @param buffer Scratch buffer for legal actions
+     * @param exploration Probability of picking a uniformly random legal action instead
+     * @return The encoded action
+     */
+    public static int defaultHeroAction(GameState state, int hero, Random random, int[] buffer, double exploration) {
+        int count = legalActions(state, hero, buffer);
+        if (exploration > 0 && random.nextDouble() < exploration) {
+            return buffer[random.nextInt(count)];
+        }
+
+        int best = SKIP;
+        int bestHealth = Integer.MAX_VALUE;
+        for (int i = 0; i < count; i++) {
+            int action = buffer[i];
+            if (action >= ATTACK && action < CAST) {
+                int health = state.get(GameState.HEALTH, state.getHeroCount() + action - ATTACK);
+                if (health < bestHealth) {
+                    bestHealth = health;
+                    best = action;
+                }
+            }
+        }
+        if (best != SKIP) {
+            return best;
+        }
+
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == MOVE_UP) {
+                return MOVE_UP;
+            }
+        }
+        int sideways = 0;
+        for (int i = 0; i < count; i++) {
+            if (buffer[i] == MOVE_LEFT || buffer[i] == MOVE_RIGHT) {
+                buffer[sideways++] = buffer[i];
+            }
+        }
+        return sideways > 0 ? buffer[random.nextInt(sideways)] : SKIP;
+    }
+
+    /**
+     * Checks whether either side has reached the opposing Nexus.
+     * @param state The game state
+     * @return 1 if the heroes have won, -1 if the monsters have won, 0 otherwise
+     */
+    public static int winner(GameState state) {
+        for (int h = 0; h < state.getHeroCount(); h++) {
+            if (state.isAlive(h) && state.get(GameState.ROW, h) == 0) {
+                return 1;
+            }
+        }
+        int lastRow = state.getRows() - 1;
+        for (int u = state.getHeroCount(); u < state.getUnitCount(); u++) {
+            if (state.isAlive(u) && state.get(GameState.ROW, u) == lastRow) {
+                return -1;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Describes an encoded action the way a player would type or read it.
+     * @param state The state the action applies to
+     * @param hero The acting hero
+     * @param action The encoded action
+     * @param monsterNames Display names of the monsters, by monster index
+     * @return A short description such as "Move w" or "Attack M2"
+     */
+    public static String describe(GameState state, int hero, int action, String[] monsterNames) {
+        if (action >= MOVE_UP && action <= MOVE_RIGHT) {
+            return "Move " + MOVE_KEYS[action];
+        } else if (action >= CAST) {
+            Spell spell = bestSpell(state, hero);
+            return "Cast " + (spell != null ? spell.getName() : "a spell") + " on " + monsterNames[action - CAST];
+        } else if (action >= ATTACK) {
+            return "Attack " + monsterNames[action - ATTACK];
+        }
+        return "Skip Turn";
+    }
+
+    /**
+     * Finds the highest damage learned spell a hero can currently afford.
+     * @param state The game state
+     * @param hero The hero index
+     * @return The spell, or null if the hero cannot cast anything
+     */
+    public static Spell bestSpell(GameState state, int hero) {
+        Spell best = null;
+        int mana = state.get(GameState.MANA, hero);
+        for (Item item : state.getLearnedSpells(hero)) {
+            Spell spell = (Spell) item;
+            if (spell.getManaCost() <= mana && (best == null || spell.getDamage() > best.getDamage())) {
+                best = spell;
+            }
+        }
+        return best;
+    }
+
+    private static void heroAttack(GameState state, int hero, int monster, Random random) {
+        if (random.nextDouble() < state.get(GameState.DODGE, monster) * 0.01) {
+            return;
+        }
+        int weaponDamage = state.get(GameState.WEAPON_DAMAGE, hero);
+        int damage = (int) (state.get(GameState.STRENGTH, hero) * 0.05 * (weaponDamage > 0 ? weaponDamage : 1));
+        damageUnit(state, monster, damage);
+    }
+
+    private static void castSpell(GameState state, int hero, int monster) {
+        Spell spell = bestSpell(state, hero);
+        if (spell == null) {
+            return;
+        }
+        state.add(GameState.MANA, hero, -spell.getManaCost());
+        damageUnit(state, monster, spell.getDamage());
+
+        // Same reductions as Monster.applySpellEffect
+        SpellType spellType = spell.getSpellType();
+        if (spellType != null) {
+            int field = spellType.getStateField();
+            state.set(field, monster, spellType.reduce(state.get(field, monster)));
+        }
+    }
+
+    private static void monsterTurn(GameState state, int monster, Random random) {
+        // Pick the hero in range the default UtilityMonsterPolicy would: kills first, then damage dealt, then distance
+        double damage = state.get(GameState.LEVEL, monster) * state.get(GameState.DAMAGE, monster) * 0.1;
+        int target = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int h = 0; h < state.getHeroCount(); h++) {
+            if (state.isAlive(h) && inMonsterRange(state, monster, h)) {
+                int distance = Math.abs(state.get(GameState.ROW, h) - state.get(GameState.ROW, monster))
+                        + Math.abs(state.get(GameState.COL, h) - state.get(GameState.COL, monster));
+                double score = UtilityMonsterPolicy.score(damage, state.get(GameState.HEALTH, h),
+                        state.get(GameState.ARMOR, h), distance);
+                if (score > bestScore) {
+                    bestScore = score;
+                    target = h;
+                }
+            }
+        }
+
+        if (target >= 0) {
+            if (random.nextDouble() >= state.get(GameState.AGILITY, target) * 0.002) {
+                damageUnit(state, target, (int) Math.max(damage - state.get(GameState.ARMOR, target), 0));
+            }
+            return;
+        }
+
+        int newRow = state.get(GameState.ROW, monster) + 1;
+        int col = state.get(GameState.COL, monster);
+        if (state.isPassable(newRow, col) && state.unitAt(newRow, col) < 0) {
+            state.set(GameState.ROW, monster, newRow);
+        }
+    }
+
+    private static void damageUnit(GameState state, int unit, int damage) {
+        state.set(GameState.HEALTH, unit, Math.max(state.get(GameState.HEALTH, unit) - damage, 0));
+    }
+
+    private static void regenerate(GameState state, int hero, int stat, int maxStat) {
+        int max = state.get(maxStat, hero);
+        state.set(stat, hero, Math.min(state.get(stat, hero) + (int) (max * 0.1), max));
+    }
+
+    // Heroes reach the current and all eight surrounding cells, as in CombatSystem.getMonstersInRange
+    private static boolean inHeroRange(GameState state, int hero, int monster) {
+        return Math.abs(state.get(GameState.ROW, hero) - state.get(GameState.ROW, monster)) <= 1
+                && Math.abs(state.get(GameState.COL, hero) - state.get(GameState.COL, monster)) <= 1;
+    }
+
+    // Monsters reach the current and orthogonally adjacent cells, as in CombatSystem.getHeroesInRange
+    private static boolean inMonsterRange(GameState state, int monster, int hero) {
+        return Math.abs(state.get(GameState.ROW, hero) - state.get(GameState.ROW, monster))
+                + Math.abs(state.get(GameState.COL, hero) - state.get(GameState.COL, monster)) <= 1;
+    }
+}
@@ -19,6 +19,14 @@ public abstract class Space {
     public Character getOccupant() {
         return occupant;
     }
+
+    /**
+     * Gets the terrain code a GameState snapshot stores for this space. Spaces without a special terrain are plain.
+     * @return One of the GameState terrain constants, such as GameState.BUSH
+     */
+    public byte getTerrainCode() {
+        return GameState.PLAIN;
+    }
 }
 
 
@@ -2,25 +2,40 @@
 
 /**
  * Represents a spell that characters can cast in battle, providing magical effects. This class include attributes like
- * manaCost, damage, and spellType.
+ * manaCost, damage, spellType and the area the spell covers.
  */
 
 public class Spell extends Item implements Consumable {
-    private String spellType;
-    private int damage;
-    private int manaCost;
-
-    public Spell(String name, int cost, int levelRequirement, int damage, int manaCost, String spellType) {
-        super(name, cost, levelRequirement, "Spell");
-        this.damage = damage;
-        this.manaCost = manaCost;
-        this.spellType = spellType;
+
+    public Spell(String name, int cost, int levelRequirement, int damage, int manaCost, SpellType spellType,
+                 SpellShape areaShape, int areaSize) {
+        this(ItemDefinition.spell(name, cost, levelRequirement, damage, manaCost, spellType, areaShape, areaSize));
+    }
+
+    public Spell(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public Spell newInstance() {
+        return new Spell(definition);
     }
 
     // Getters
-    public int getDamage() { return damage; }
-    public int getManaCost() { return manaCost; }
-    public String getSpellType() { return spellType; }
+    public int getDamage() { return definition.getDamage(); }
+    public int getManaCost() { return definition.getManaCost(); }
+    public SpellType getSpellType() { return definition.getSpellType(); }
+    public SpellShape getAreaShape() { return definition.getAreaShape(); }
+    public int getAreaSize() { return definition.getAreaSize(); }
+
+    /**
+     * Describes the area the spell covers, for spell lists.
+     * @return "single target", or the shape and its size such as "radius 1"
+     */
+    public String describeArea() {
+        SpellShape shape = getAreaShape();
+        return shape == null || shape == SpellShape.SINGLE ? "single target" : shape + " " + getAreaSize();
+    }
 
     @Override
     public void use(Hero hero) {
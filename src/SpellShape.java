@@ -0,0 +1,106 @@
+/**
+ * The area a spell covers around its target, read from the last column of the spell data files. Each shape
+ * walks only the cells it covers and asks a MonsterOccupancy for the monsters standing there, so resolving an
+ * area spell costs as much as the area, not as much as the number of monsters on the board. Every cell is
+ * visited at most once, so no monster is hit twice by one cast.
+ */
+public enum SpellShape {
+    /** Only the chosen target. */
+    SINGLE("single") {
+        @Override
+        void collect(MonsterOccupancy occupancy, int casterRow, int casterCol, int targetRow, int targetCol, int size) {
+            occupancy.collect(targetRow, targetCol);
+        }
+    },
+    /** Every cell within size steps of the target, diagonals included. */
+    RADIUS("radius") {
+        @Override
+        void collect(MonsterOccupancy occupancy, int casterRow, int casterCol, int targetRow, int targetCol, int size) {
+            for (int row = targetRow - size; row <= targetRow + size; row++) {
+                for (int col = targetCol - size; col <= targetCol + size; col++) {
+                    occupancy.collect(row, col);
+                }
+            }
+        }
+    },
+    /** The target and the size cells behind it, continuing away from the caster down the lane. */
+    LINE("line") {
+        @Override
+        void collect(MonsterOccupancy occupancy, int casterRow, int casterCol, int targetRow, int targetCol, int size) {
+            int rowStep = Integer.signum(targetRow - casterRow);
+            int colStep = Integer.signum(targetCol - casterCol);
+            if (rowStep == 0 && colStep == 0) {
+                rowStep = -1;  // Monsters come down from row 0, so a line cast in place goes up the lane
+            }
+            for (int step = 0; step <= size; step++) {
+                occupancy.collect(targetRow + step * rowStep, targetCol + step * colStep);
+            }
+        }
+    },
+    /** A wedge opening from the caster towards the target, size cells deep and one cell wider each step. */
+    CONE("cone") {
+        @Override
+        void collect(MonsterOccupancy occupancy, int casterRow, int casterCol, int targetRow, int targetCol, int size) {
+            // Cones open along rows when the target is at least as far up or down as it is sideways
+            int rowDistance = targetRow - casterRow;
+            int colDistance = targetCol - casterCol;
+            boolean vertical = Math.abs(rowDistance) >= Math.abs(colDistance);
+            int rowStep = vertical ? (rowDistance > 0 ? 1 : -1) : 0;
+            int colStep = vertical ? 0 : Integer.signum(colDistance);
+            for (int depth = 1; depth <= size; depth++) {
+                int row = casterRow + depth * rowStep;
+                int col = casterCol + depth * colStep;
+                for (int spread = 1 - depth; spread < depth; spread++) {
+                    occupancy.collect(row + spread * colStep, col + spread * rowStep);
+                }
+            }
+            // The target is always hit, even when it stands outside the wedge
+            int along = Math.abs(vertical ? rowDistance : colDistance);
+            int across = Math.abs(vertical ? colDistance : rowDistance);
+            if (along == 0 || along > size || across >= along) {
+                occupancy.collect(targetRow, targetCol);
+            }
+        }
+    };
+
+    private final String label;
+
+    SpellShape(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Adds every monster the area covers to the occupancy's query results.
+     * @param occupancy The index of monster positions; its results should have been cleared
+     * @param casterRow The casting hero's row
+     * @param casterCol The casting hero's column
+     * @param targetRow The chosen target's row
+     * @param targetCol The chosen target's column
+     * @param size The reach of the area from the spell data file
+     */
+    abstract void collect(MonsterOccupancy occupancy, int casterRow, int casterCol, int targetRow, int targetCol,
+                          int size);
+
+    /**
+     * Finds the shape named in a data file.
+     * @param label A shape label such as "radius", in any case
+     * @return The shape, or SINGLE if the label is missing or not a shape
+     */
+    public static SpellShape forLabel(String label) {
+        if (label != null) {
+            for (SpellShape shape : values()) {
+                if (shape.label.equalsIgnoreCase(label)) {
+                    return shape;
+                }
+            }
+        }
+        return SINGLE;
+    }
+
+    public String getLabel() { return label; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -1,5 +1,4 @@
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Manages all spell-related functionality in the game, including spell casting,
@@ -27,9 +26,7 @@ public class SpellSystem {
         List<Spell> learnedSpells = hero.getLearnedSpells();
         
         // Then check inventory for one-time use spells
-        List<Item> inventorySpells = hero.getInventory().getItems().stream()
-                .filter(item -> item instanceof Spell)
-                .collect(Collectors.toList());
+        List<Spell> inventorySpells = hero.getInventory().getSpells();
         
         if (learnedSpells.isEmpty() && inventorySpells.isEmpty()) {
             System.out.println("\u001B[31m" + hero.getName() + " doesn't know any spells.\u001B[0m");
@@ -49,6 +46,7 @@ public class SpellSystem {
                     " [Type: " + spell.getSpellType() + 
                     ", Damage: " + spell.getDamage() + 
                     ", Mana Cost: " + spell.getManaCost() + 
+                    ", Area: " + spell.describeArea() +
                     "]\u001B[0m " + getSpellEffectDescription(spell.getSpellType()));
                 index++;
             }
@@ -57,13 +55,14 @@ public class SpellSystem {
         // Show inventory spells second (one-time use)
         if (!inventorySpells.isEmpty()) {
             System.out.println("\n\u001B[1;33m*** Inventory Spells (One-time use) ***\u001B[0m");
-            for (Item item : inventorySpells) {
-                Spell spell = (Spell) item;
+            for (Spell spell : inventorySpells) {
                 String spellColor = getSpellTypeColor(spell.getSpellType());
                 System.out.println(index + ". " + spellColor + spell.getName() + 
+                    " x" + hero.getInventory().getStackCount(spell.getName()) +
                     " [Type: " + spell.getSpellType() + 
                     ", Damage: " + spell.getDamage() + 
                     ", Mana Cost: " + spell.getManaCost() + 
+                    ", Area: " + spell.describeArea() +
                     "]\u001B[0m " + getSpellEffectDescription(spell.getSpellType()));
                 index++;
             }
@@ -81,7 +80,7 @@ public class SpellSystem {
             isLearnedSpell = true;
         } else if (choice <= learnedSpells.size() + inventorySpells.size()) {
             // An inventory spell was chosen
-            spellToCast = (Spell) inventorySpells.get(choice - learnedSpells.size() - 1);
+            spellToCast = inventorySpells.get(choice - learnedSpells.size() - 1);
         } else {
             System.out.println("\u001B[31mInvalid spell selection.\u001B[0m");
             return false;
@@ -96,43 +95,104 @@ public class SpellSystem {
         
         Monster target = world.selectTargetMonster(hero, monsters);
         if (target != null) {
-            String spellTypeColor = getSpellTypeColor(spellToCast.getSpellType());
-            
-            if (isLearnedSpell) {
-                // For learned spells, just use mana
-                hero.reduceMana(spellToCast.getManaCost());
-                System.out.println("\u001B[36m" + hero.getName() + " uses " + 
-                    spellToCast.getManaCost() + " mana. Remaining: " + 
-                    hero.getCurrentMana() + "/" + hero.getManaPoints() + "\u001B[0m");
-            } else {
-                // For inventory spells, use the spell which consumes it
-                spellToCast.use(hero);
-                hero.getInventory().useItem(spellToCast.getName());
-                System.out.println("\u001B[33mOne-time spell consumed from inventory.\u001B[0m");
+            return castSpell(hero, spellToCast, target, isLearnedSpell);
+        }
+        return false; // No target selected
+    }
+
+    /**
+     * Casts a chosen spell on a chosen monster without prompting.
+     * 
+     * @param hero The hero casting the spell
+     * @param spellToCast The spell to cast
+     * @param target The monster to hit
+     * @param isLearnedSpell Whether the spell is a learned spell rather than a one-time inventory spell
+     * @return true if the monster was defeated, false otherwise
+     */
+    public boolean castSpell(Hero hero, Spell spellToCast, Monster target, boolean isLearnedSpell) {
+        if (hero.getCurrentMana() < spellToCast.getManaCost() || target == null || !target.isAlive()) {
+            return false;
+        }
+
+        String spellTypeColor = getSpellTypeColor(spellToCast.getSpellType());
+        
+        if (isLearnedSpell) {
+            // For learned spells, just use mana
+            hero.reduceMana(spellToCast.getManaCost());
+            System.out.println("\u001B[36m" + hero.getName() + " uses " + 
+                spellToCast.getManaCost() + " mana. Remaining: " + 
+                hero.getCurrentMana() + "/" + hero.getManaPoints() + "\u001B[0m");
+        } else {
+            // For inventory spells, use the spell which consumes it
+            spellToCast.use(hero);
+            System.out.println("\u001B[33mOne-time spell consumed from inventory.\u001B[0m");
+        }
+        
+        target.takeDamage(spellToCast.getDamage());
+        System.out.println(spellTypeColor + ">>> " + hero.getName() + " cast " + 
+            spellToCast.getName() + " on " + target.getName() + " dealing " + 
+            spellToCast.getDamage() + " damage! <<<\u001B[0m");
+        
+        // Apply spell effects based on the spell type
+        if (spellToCast.getSpellType() != null) {
+            System.out.println(spellTypeColor + getSpellEffectActionDescription(spellToCast.getSpellType()) + "\u001B[0m");
+            target.applySpellEffect(spellToCast);
+        }
+        
+        GameEventBus.getInstance().publish(GameEvent.Type.SPELL_CAST, hero, target, spellToCast.getDamage(), 0,
+                spellToCast.getSpellType(), spellToCast.getName());
+        
+        boolean defeated = false;
+        if (!target.isAlive()) {
+            System.out.println("\u001B[32m" + target.getName() + " has been defeated!\u001B[0m");
+            world.distributeMonsterRewards(target, heroes);
+            defeated = true;
+        }
+        
+        // Area spells also hit every other monster in their area
+        if (castOnArea(hero, spellToCast, target)) {
+            defeated = true;
+        }
+        return defeated; // Whether the spell defeated any monster
+    }
+
+    /**
+     * Hits the monsters around a spell's target that fall inside the spell's area, finding them through the
+     * world's occupancy index so only the covered cells are looked at.
+     * @param hero The hero casting the spell
+     * @param spell The spell that was cast
+     * @param target The monster the spell was aimed at, which has already been hit
+     * @return true if any of the other monsters was defeated
+     */
+    private boolean castOnArea(Hero hero, Spell spell, Monster target) {
+        SpellShape shape = spell.getAreaShape();
+        if (shape == null || shape == SpellShape.SINGLE) {
+            return false;
+        }
+        MonsterOccupancy occupancy = world.getMonsterOccupancy();
+        occupancy.clearResults();
+        shape.collect(occupancy, hero.getHeroRow(), hero.getHeroCol(), target.getMonsterRow(), target.getMonsterCol(),
+                spell.getAreaSize());
+
+        boolean defeated = false;
+        for (int i = 0; i < occupancy.getResultCount(); i++) {
+            Monster monster = occupancy.getResult(i);
+            if (monster == target || !monster.isAlive()) {
+                continue;
             }
-            
-            target.takeDamage(spellToCast.getDamage());
-            System.out.println(spellTypeColor + ">>> " + hero.getName() + " cast " + 
-                spellToCast.getName() + " on " + target.getName() + " dealing " + 
-                spellToCast.getDamage() + " damage! <<<\u001B[0m");
-            
-            // Apply spell effects based on the spell type
-            if (spellToCast.getSpellType() != null) {
-                System.out.println(spellTypeColor + getSpellEffectActionDescription(spellToCast.getSpellType()) + "\u001B[0m");
-                target.applySpellEffect(spellToCast.getSpellType());
+            monster.takeDamage(spell.getDamage());
+            if (spell.getSpellType() != null) {
+                monster.applySpellEffect(spell);
             }
-            
-            // Log the spell cast using CombatLogger
-            CombatLogger.getInstance().logSpellCast(hero, spellToCast, target, spellToCast.getDamage());
-            
-            if (!target.isAlive()) {
-                System.out.println("\u001B[32m" + target.getName() + " has been defeated!\u001B[0m");
-                world.distributeMonsterRewards(target, heroes);
-                return true; // Return true if a monster was defeated
+            GameEventBus.getInstance().publish(GameEvent.Type.SPELL_CAST, hero, monster, spell.getDamage(), 0,
+                    spell.getSpellType(), spell.getName(), shape.getLabel());
+
+            if (!monster.isAlive()) {
+                world.distributeMonsterRewards(monster, heroes);
+                defeated = true;
             }
-            return false; // Spell was cast but monster wasn't defeated
         }
-        return false; // No target selected
+        return defeated;
     }
     
     /**
@@ -141,17 +201,8 @@ public class SpellSystem {
      * @param spellType The type of spell
      * @return The ANSI color code as a string
      */
-    public String getSpellTypeColor(String spellType) {
-        switch (spellType.toLowerCase()) {
-            case "fire":
-                return "\u001B[31m"; // Red for fire
-            case "ice":
-                return "\u001B[36m"; // Cyan for ice
-            case "lightning":
-                return "\u001B[33m"; // Yellow for lightning
-            default:
-                return "\u001B[35m"; // Purple default for other spell types
-        }
+    public String getSpellTypeColor(SpellType spellType) {
+        return spellType != null ? spellType.getColor() : "\u001B[35m"; // Purple for spells without a type
     }
     
     /**
@@ -160,17 +211,8 @@ public class SpellSystem {
      * @param spellType The type of spell
      * @return A description of the spell's effect
      */
-    public String getSpellEffectDescription(String spellType) {
-        switch (spellType.toLowerCase()) {
-            case "fire":
-                return "\u001B[3m(Reduces target's defense)\u001B[0m";
-            case "ice":
-                return "\u001B[3m(Reduces target's damage)\u001B[0m";
-            case "lightning":
-                return "\u001B[3m(Reduces target's dodge chance)\u001B[0m";
-            default:
-                return "";
-        }
+    public String getSpellEffectDescription(SpellType spellType) {
+        return spellType != null ? "\u001B[3m" + spellType.getEffectDescription() + "\u001B[0m" : "";
     }
     
     /**
@@ -179,17 +221,8 @@ public class SpellSystem {
      * @param spellType The type of spell
      * @return An action description for the spell
      */
-    public String getSpellEffectActionDescription(String spellType) {
-        switch (spellType.toLowerCase()) {
-            case "fire":
-                return "*** The flames sear the target's armor, reducing its defense! ***";
-            case "ice":
-                return "*** Freezing cold numbs the target, reducing its attack damage! ***";
-            case "lightning":
-                return "*** Electric shock stuns the target, reducing its dodge chance! ***";
-            default:
-                return "";
-        }
+    public String getSpellEffectActionDescription(SpellType spellType) {
+        return spellType != null ? spellType.getActionDescription() : "";
     }
 
     /**
@@ -227,10 +260,10 @@ public class SpellSystem {
         target.takeDamage(spellDamage);
         
         // Apply the special effect
-        target.applySpellEffect(spell.getSpellType());
+        target.applySpellEffect(spell);
         
-        // Log the spell cast using CombatLogger
-        CombatLogger.getInstance().logSpellCast(hero, spell, target, spellDamage);
+        GameEventBus.getInstance().publish(GameEvent.Type.SPELL_CAST, hero, target, spellDamage, 0,
+                spell.getSpellType(), spell.getName());
         
         // Check if monster was defeated
         if (!target.isAlive()) {
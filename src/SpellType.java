@@ -0,0 +1,137 @@
+/**
+ * The kinds of spell, each with the monster attribute it weakens, its display color and its descriptions.
+ * Spell types are resolved from their data file when the catalog is read, so casting a spell works from
+ * the enum constant alone and never has to look at the type's name. A spell's weakening lasts a few rounds,
+ * and fire spells also burn their target for a few rounds.
+ */
+public enum SpellType {
+    FIRE("Fire", DataFile.FIRE_SPELLS, GameState.DEFENSE, 3, "\u001B[31m",
+            "(Reduces target's defense)",
+            "*** The flames sear the target's armor, reducing its defense! ***") {
+        @Override
+        int[] getAffectedStat(UnitStore store) { return store.defense; }
+
+        @Override
+        String describeEffect(String target, int reduction, int newValue) {
+            return target + "'s defense reduced by " + reduction + ". New defense: " + newValue;
+        }
+    },
+    ICE("Ice", DataFile.ICE_SPELLS, GameState.DAMAGE, 0, "\u001B[36m",
+            "(Reduces target's damage)",
+            "*** Freezing cold numbs the target, reducing its attack damage! ***") {
+        @Override
+        int[] getAffectedStat(UnitStore store) { return store.damage; }
+
+        @Override
+        String describeEffect(String target, int reduction, int newValue) {
+            return target + "'s base damage reduced by " + reduction + ". New damage: " + newValue;
+        }
+    },
+    LIGHTNING("Lightning", DataFile.LIGHTNING_SPELLS, GameState.DODGE, 0, "\u001B[33m",
+            "(Reduces target's dodge chance)",
+            "*** Electric shock stuns the target, reducing its dodge chance! ***") {
+        @Override
+        int[] getAffectedStat(UnitStore store) { return store.dodge; }
+
+        @Override
+        String describeEffect(String target, int reduction, int newValue) {
+            return target + "'s dodge chance reduced by " + reduction + "%.";
+        }
+    };
+
+    // Every spell takes this fraction off the attribute it weakens, for this many rounds
+    private static final double REDUCTION = 0.1;
+    private static final int EFFECT_ROUNDS = 3;
+    // A burning monster takes this fraction of the spell's damage each round
+    private static final double BURN_FRACTION = 0.1;
+
+    private final String label;
+    private final DataFile dataFile;
+    private final int stateField;
+    private final int burnRounds;
+    private final String color;
+    private final String effectDescription;
+    private final String actionDescription;
+
+    SpellType(String label, DataFile dataFile, int stateField, int burnRounds, String color, String effectDescription,
+              String actionDescription) {
+        this.label = label;
+        this.dataFile = dataFile;
+        this.stateField = stateField;
+        this.burnRounds = burnRounds;
+        this.color = color;
+        this.effectDescription = effectDescription;
+        this.actionDescription = actionDescription;
+    }
+
+    /**
+     * Gets the column of a unit store holding the attribute this spell type weakens.
+     * @param store The store holding the monster
+     * @return The column, indexed by unit id
+     */
+    abstract int[] getAffectedStat(UnitStore store);
+
+    /**
+     * Describes the effect of a cast on a monster.
+     * @param target The monster's name
+     * @param reduction How much the attribute went down
+     * @param newValue The attribute's new value
+     * @return The message to show
+     */
+    abstract String describeEffect(String target, int reduction, int newValue);
+
+    /**
+     * Gets how much a cast takes off an attribute.
+     * @param value The attribute before the cast
+     * @return The reduction
+     */
+    public int reductionOf(int value) {
+        return (int) (value * REDUCTION);
+    }
+
+    /**
+     * Weakens an attribute the way a cast of this type does.
+     * @param value The attribute before the cast
+     * @return The attribute after the cast, never below zero
+     */
+    public int reduce(int value) {
+        return Math.max(0, (int) (value - value * REDUCTION));
+    }
+
+    /**
+     * Gets the damage a burn from this spell type deals each round.
+     * @param spellDamage The damage of the spell that set the burn
+     * @return The damage per round, at least 1
+     */
+    public int burnDamage(int spellDamage) {
+        return Math.max(1, (int) (spellDamage * BURN_FRACTION));
+    }
+
+    /**
+     * Finds the spell type whose spells are listed in a data file.
+     * @param file A data file
+     * @return The spell type, or null if the file does not list spells
+     */
+    public static SpellType forDataFile(DataFile file) {
+        for (SpellType type : values()) {
+            if (type.dataFile == file) {
+                return type;
+            }
+        }
+        return null;
+    }
+
+    public String getLabel() { return label; }
+    public DataFile getDataFile() { return dataFile; }
+    public int getStateField() { return stateField; }  // The matching GameState field, for simulations
+    public int getEffectRounds() { return EFFECT_ROUNDS; }
+    public int getBurnRounds() { return burnRounds; }  // 0 if the spell does not burn
+    public String getColor() { return color; }
+    public String getEffectDescription() { return effectDescription; }
+    public String getActionDescription() { return actionDescription; }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -108,7 +108,7 @@ public class SpellcasterSystem {
         
         // Apply spell effects based on type
         if (spell.getSpellType() != null) {
-            target.applySpellEffect(spell.getSpellType());
+            target.applySpellEffect(spell);
         }
     }
     
@@ -0,0 +1,114 @@
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures cold-start time by launching the game in fresh JVMs and timing how long each takes
+ * to reach its first prompts:
+ * the game selection menu, and the Legends of Valor difficulty prompt (reached after the game
+ * and its markets have been constructed).
+ *
+ * Usage: java StartupBenchmark [runs] [maxFirstPromptMillis]
+ * With a limit given, the benchmark exits with status 1 if the median time to the first prompt
+ * exceeds it, so it can guard against cold-start regressions in a build script.
+ */
+public class StartupBenchmark {
+    private static final String FIRST_PROMPT = "Select a game to play";
+    private static final String GAME_PROMPT = "Enter your choice (1-3)";
+    private static final long TIMEOUT_MILLIS = 30_000;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int runs = args.length > 0 ? Integer.parseInt(args[0]) : 5;
+        long limit = args.length > 1 ? Long.parseLong(args[1]) : -1;
+        if (runs < 1) {
+            System.out.println("Usage: java StartupBenchmark [runs] [maxFirstPromptMillis] (runs must be at least 1)");
+            System.exit(2);
+        }
+
+        long[] firstPrompt = new long[runs];
+        long[] gamePrompt = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            long[] times = measure();
+            firstPrompt[i] = times[0];
+            gamePrompt[i] = times[1];
+            System.out.println("Run " + (i + 1) + ": first prompt " + times[0] + " ms, game prompt " + times[1] + " ms");
+        }
+
+        long medianFirst = median(firstPrompt);
+        System.out.println("=== STARTUP SUMMARY (" + runs + " runs, data pack "
+                + (new java.io.File(Catalog.PACK_PATH).isFile() ? "present" : "absent") + ") ===");
+        System.out.println("Time to first prompt: median " + medianFirst + " ms, min " + min(firstPrompt) + " ms");
+        System.out.println("Time to game prompt:  median " + median(gamePrompt) + " ms, min " + min(gamePrompt) + " ms");
+
+        if (limit >= 0 && medianFirst > limit) {
+            System.out.println("Cold start regression: median " + medianFirst + " ms exceeds the " + limit + " ms limit");
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Launches one game and times its prompts.
+     * @return Milliseconds from launch to the first prompt and to the game prompt
+     */
+    private static long[] measure() throws IOException, InterruptedException {
+        List<String> command = new ArrayList<>(Arrays.asList(
+                System.getProperty("java.home") + "/bin/java", "-cp", System.getProperty("java.class.path"), "Main"));
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        ProcessWatchdog watchdog = ProcessWatchdog.start(process, start + TIMEOUT_MILLIS * 1_000_000L);
+        try {
+            InputStream output = process.getInputStream();
+            StringBuilder seen = new StringBuilder();
+
+            waitFor(output, seen, FIRST_PROMPT, watchdog);
+            long first = (System.nanoTime() - start) / 1_000_000;
+
+            // Choose Legends of Valor and wait for its difficulty prompt
+            OutputStream input = process.getOutputStream();
+            input.write("2\n".getBytes(StandardCharsets.UTF_8));
+            input.flush();
+            waitFor(output, seen, GAME_PROMPT, watchdog);
+            long game = (System.nanoTime() - start) / 1_000_000;
+
+            return new long[] {first, game};
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    // Reads until the prompt appears; the watchdog ends a read that blocks past the deadline
+    private static void waitFor(InputStream output, StringBuilder seen, String prompt, ProcessWatchdog watchdog)
+            throws IOException {
+        int from = seen.length();
+        byte[] buffer = new byte[4096];
+        while (seen.indexOf(prompt, Math.max(0, from - prompt.length())) < 0) {
+            int read = output.read(buffer);
+            if (read < 0) {
+                if (watchdog.hasFired()) {
+                    throw new IOException("Timed out after " + TIMEOUT_MILLIS + " ms waiting for \"" + prompt + "\"");
+                }
+                throw new IOException("Game exited before printing \"" + prompt + "\"");
+            }
+            seen.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static long min(long[] values) {
+        long min = Long.MAX_VALUE;
+        for (long value : values) {
+            min = Math.min(min, value);
+        }
+        return min;
+    }
+}
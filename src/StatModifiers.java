@@ -0,0 +1,84 @@
+/**
+ * The stat bonuses currently applied to a hero, grouped by where they came from. A hero's effective
+ * strength, dexterity and agility are its base values plus the totals kept here.
+ *
+ * Adding a modifier or clearing a source adjusts the running totals directly, so no change needs a
+ * recompute and removing a source always takes off exactly what it added. Every change bumps the version,
+ * which lets the hero tell when its cached effective stats are out of date.
+ */
+public class StatModifiers {
+    /** Where a modifier came from. */
+    public enum Source { TERRAIN, POTION, SPELL, LEVEL }
+
+    /** The attributes a modifier can change. */
+    public enum Stat {
+        STRENGTH("strength"), DEXTERITY("dexterity"), AGILITY("agility");
+
+        private final String label;
+
+        Stat(String label) {
+            this.label = label;
+        }
+
+        public String getLabel() { return label; }
+    }
+
+    private static final Stat[] STATS = Stat.values();
+
+    private final int[][] bySource = new int[Source.values().length][STATS.length];
+    private final int[] totals = new int[STATS.length];
+    private int version;
+
+    /**
+     * Adds a bonus (or, with a negative amount, a penalty) from a source.
+     * @param source Where the modifier comes from
+     * @param stat The attribute it changes
+     * @param amount The change
+     */
+    public void add(Source source, Stat stat, int amount) {
+        if (amount == 0) {
+            return;
+        }
+        bySource[source.ordinal()][stat.ordinal()] += amount;
+        totals[stat.ordinal()] += amount;
+        version++;
+    }
+
+    /**
+     * Removes every modifier from a source.
+     * @param source The source to clear
+     */
+    public void clear(Source source) {
+        int[] amounts = bySource[source.ordinal()];
+        for (int i = 0; i < amounts.length; i++) {
+            if (amounts[i] != 0) {
+                totals[i] -= amounts[i];
+                amounts[i] = 0;
+                version++;
+            }
+        }
+    }
+
+    /**
+     * Gets the combined modifier from one source.
+     * @param source The source
+     * @param stat The attribute
+     * @return The source's total for the attribute
+     */
+    public int get(Source source, Stat stat) {
+        return bySource[source.ordinal()][stat.ordinal()];
+    }
+
+    /**
+     * Gets the combined modifier from all sources.
+     * @param stat The attribute
+     * @return The total for the attribute
+     */
+    public int getTotal(Stat stat) {
+        return totals[stat.ordinal()];
+    }
+
+    public int getVersion() {
+        return version;
+    }
+}
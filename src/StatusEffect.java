@@ -0,0 +1,40 @@
+/**
+ * One timed effect on a character: a hero's stat boost, a monster's spell debuff or a burn that deals damage
+ * each round. Effects are owned and recycled by StatusEffects; the link fields let an effect sit in a
+ * timing wheel slot and in its character's list of effects at the same time, so it can be removed from
+ * either in constant time.
+ */
+final class StatusEffect {
+    /** What an effect does while it lasts and when it ends. */
+    enum Kind {
+        STAT_BOOST,     // Hero stat modifier that is taken off again on expiry
+        SPELL_DEBUFF,   // Monster attribute reduction that is given back on expiry
+        BURN            // Monster damage each round until the rounds run out
+    }
+
+    Kind kind;
+    Character target;
+    StatModifiers.Stat stat;   // STAT_BOOST
+    SpellType spellType;       // SPELL_DEBUFF
+    int amount;                // Boost, reduction or damage per round
+    int roundsLeft;            // BURN ticks still to deal
+
+    // Timing wheel placement
+    long due;
+    StatusEffect prev;
+    StatusEffect next;
+
+    // The target's list of effects
+    StatusEffect ownerPrev;
+    StatusEffect ownerNext;
+
+    void clear() {
+        target = null;
+        stat = null;
+        spellType = null;
+        prev = null;
+        next = null;
+        ownerPrev = null;
+        ownerNext = null;
+    }
+}
@@ -0,0 +1,196 @@
+import java.util.List;
+
+/**
+ * Schedules and expires timed effects: potion boosts on heroes, spell debuffs on monsters and burns that
+ * deal damage every round. Effects live in a TimingWheel that the game advances once per round, so a round
+ * only costs as much as the effects that end or tick in it, however many units the game has.
+ *
+ * Each character keeps a list of its own effects, which lets a unit that resets, dies for good or goes back
+ * to a pool drop all of them at once. Effect objects are recycled. Like the UnitStore, this is a process-wide
+ * singleton and is not thread-safe.
+ */
+public class StatusEffects {
+    private static final int WHEEL_SLOTS = 64;
+    private static StatusEffects instance;
+
+    private final TimingWheel wheel = new TimingWheel(WHEEL_SLOTS);
+    private StatusEffect free;  // Recycled effects, chained through next
+
+    private StatusEffects() {
+    }
+
+    /**
+     * Gets the singleton instance of StatusEffects
+     * @return The StatusEffects instance
+     */
+    public static StatusEffects getInstance() {
+        if (instance == null) {
+            instance = new StatusEffects();
+        }
+        return instance;
+    }
+
+    /**
+     * Schedules the end of a stat boost the hero has already been given as a POTION modifier.
+     * @param hero The boosted hero
+     * @param stat The boosted attribute
+     * @param amount The size of the boost
+     * @param rounds How many rounds the boost lasts
+     */
+    public void addStatBoost(Hero hero, StatModifiers.Stat stat, int amount, int rounds) {
+        StatusEffect effect = obtain(StatusEffect.Kind.STAT_BOOST, hero, amount);
+        effect.stat = stat;
+        start(effect, rounds);
+    }
+
+    /**
+     * Schedules the end of a spell debuff the monster has already received.
+     * @param monster The weakened monster
+     * @param spellType The type of the spell, which names the weakened attribute
+     * @param reduction How much the attribute went down
+     * @param rounds How many rounds the debuff lasts
+     */
+    public void addSpellDebuff(Monster monster, SpellType spellType, int reduction, int rounds) {
+        StatusEffect effect = obtain(StatusEffect.Kind.SPELL_DEBUFF, monster, reduction);
+        effect.spellType = spellType;
+        start(effect, rounds);
+    }
+
+    /**
+     * Sets a monster burning for a number of rounds.
+     * @param monster The burning monster
+     * @param damagePerRound The damage dealt at the end of each round
+     * @param rounds How many rounds it burns for
+     */
+    public void addBurn(Monster monster, int damagePerRound, int rounds) {
+        StatusEffect effect = obtain(StatusEffect.Kind.BURN, monster, damagePerRound);
+        effect.roundsLeft = rounds;
+        start(effect, 1);
+    }
+
+    /**
+     * Drops every effect on a character without running its expiry. Callers use this when the
+     * character's stats are being reset anyway, or when it leaves play.
+     * @param character The character
+     */
+    public void cancelAll(Character character) {
+        StatusEffect effect = character.statusEffects;
+        while (effect != null) {
+            StatusEffect following = effect.ownerNext;
+            wheel.cancel(effect);
+            recycle(effect);
+            effect = following;
+        }
+        character.statusEffects = null;
+    }
+
+    /**
+     * Ends the round: expires the effects that run out and lets burns deal their damage.
+     * @return The number of effects that ticked or expired
+     */
+    public int advanceRound() {
+        return advanceRound(null);
+    }
+
+    /**
+     * Ends the round like advanceRound(), and reports the monsters whose burns finished them off so the
+     * caller can give them the same defeat handling as any other kill.
+     * @param burnedOut The list to add every monster killed by a burn this round to, or null to ignore them
+     * @return The number of effects that ticked or expired
+     */
+    public int advanceRound(List<Monster> burnedOut) {
+        int processed = 0;
+        StatusEffect effect = wheel.advance();
+        while (effect != null) {
+            StatusEffect following = effect.next;
+            effect.next = null;
+            if (run(effect, burnedOut)) {
+                wheel.schedule(effect, 1);
+            } else {
+                detach(effect);
+                recycle(effect);
+            }
+            processed++;
+            effect = following;
+        }
+        return processed;
+    }
+
+    public int getActiveCount() {
+        return wheel.size();
+    }
+
+    // Applies a due effect; returns true if it should tick again next round
+    private boolean run(StatusEffect effect, List<Monster> burnedOut) {
+        GameEventBus events = GameEventBus.getInstance();
+        switch (effect.kind) {
+            case STAT_BOOST:
+                ((Hero) effect.target).addModifier(StatModifiers.Source.POTION, effect.stat, -effect.amount);
+                events.publish(GameEvent.Type.EFFECT_EXPIRED, effect.target, null, effect.amount, 0, false,
+                        effect.stat.getLabel(), null);
+                return false;
+            case SPELL_DEBUFF:
+                ((Monster) effect.target).restoreSpellEffect(effect.spellType, effect.amount);
+                events.publish(GameEvent.Type.EFFECT_EXPIRED, effect.target, null, effect.amount, 0,
+                        effect.spellType, null);
+                return false;
+            case BURN:
+                if (!effect.target.isAlive()) {
+                    return false;
+                }
+                effect.target.takeDamage(effect.amount);
+                events.publish(GameEvent.Type.BURN_DAMAGE, effect.target, effect.amount);
+                if (!effect.target.isAlive()) {
+                    if (burnedOut != null) {
+                        burnedOut.add((Monster) effect.target);
+                    }
+                    return false;
+                }
+                return --effect.roundsLeft > 0;
+            default:
+                return false;
+        }
+    }
+
+    private StatusEffect obtain(StatusEffect.Kind kind, Character target, int amount) {
+        StatusEffect effect = free;
+        if (effect != null) {
+            free = effect.next;
+            effect.next = null;
+        } else {
+            effect = new StatusEffect();
+        }
+        effect.kind = kind;
+        effect.target = target;
+        effect.amount = amount;
+        return effect;
+    }
+
+    // Puts a new effect on the wheel and at the head of its target's list
+    private void start(StatusEffect effect, int rounds) {
+        Character target = effect.target;
+        effect.ownerNext = target.statusEffects;
+        if (target.statusEffects != null) {
+            target.statusEffects.ownerPrev = effect;
+        }
+        target.statusEffects = effect;
+        wheel.schedule(effect, rounds);
+    }
+
+    private void detach(StatusEffect effect) {
+        if (effect.ownerPrev != null) {
+            effect.ownerPrev.ownerNext = effect.ownerNext;
+        } else {
+            effect.target.statusEffects = effect.ownerNext;
+        }
+        if (effect.ownerNext != null) {
+            effect.ownerNext.ownerPrev = effect.ownerPrev;
+        }
+    }
+
+    private void recycle(StatusEffect effect) {
+        effect.clear();
+        effect.next = free;
+        free = effect;
+    }
+}
@@ -3,6 +3,7 @@
  * Manages how different terrain types affect hero attributes.
  */
 public class TerrainEffectHandler {
+    private static final int TERRAIN_BONUS = 10;
     
     /**
      * Creates a new TerrainEffectHandler.
@@ -21,15 +22,17 @@ public class TerrainEffectHandler {
             return;
         }
         
+        hero.clearModifiers(StatModifiers.Source.TERRAIN);  // A hero only ever stands on one space
+        GameEventBus events = GameEventBus.getInstance();
         if (space instanceof BushSpace) {
-            hero.increaseDexterity(10);  // Increase dexterity by 10 in Bush space
-            System.out.println(hero.getName() + " gains a dexterity boost in the Bush.");
+            hero.addModifier(StatModifiers.Source.TERRAIN, StatModifiers.Stat.DEXTERITY, TERRAIN_BONUS);  // Increase dexterity by 10 in Bush space
+            events.publish(GameEvent.Type.TERRAIN_ENTERED, hero, "dexterity", "Bush");
         } else if (space instanceof CaveSpace) {
-            hero.increaseAgility(10);  // Increase agility by 10 in Cave space
-            System.out.println(hero.getName() + " gains an agility boost in the Cave.");
+            hero.addModifier(StatModifiers.Source.TERRAIN, StatModifiers.Stat.AGILITY, TERRAIN_BONUS);  // Increase agility by 10 in Cave space
+            events.publish(GameEvent.Type.TERRAIN_ENTERED, hero, "agility", "Cave");
         } else if (space instanceof KoulouSpace) {
-            hero.increaseStrength(10);  // Increase strength by 10 in Koulou space
-            System.out.println(hero.getName() + " gains a strength boost in the Koulou.");
+            hero.addModifier(StatModifiers.Source.TERRAIN, StatModifiers.Stat.STRENGTH, TERRAIN_BONUS);  // Increase strength by 10 in Koulou space
+            events.publish(GameEvent.Type.TERRAIN_ENTERED, hero, "strength", "Koulou");
         }
     }
     
@@ -43,15 +46,14 @@ public class TerrainEffectHandler {
             return;
         }
         
+        hero.clearModifiers(StatModifiers.Source.TERRAIN);  // Takes off exactly what the terrain added
+        GameEventBus events = GameEventBus.getInstance();
         if (space instanceof BushSpace) {
-            hero.increaseDexterity(-10);  // Remove dexterity boost from Bush space
-            System.out.println(hero.getName() + " loses a dexterity boost from the Bush.");
+            events.publish(GameEvent.Type.TERRAIN_LEFT, hero, "dexterity", "Bush");
         } else if (space instanceof CaveSpace) {
-            hero.increaseAgility(-10);  // Remove agility boost from Cave space
-            System.out.println(hero.getName() + " loses an agility boost from the Cave.");
+            events.publish(GameEvent.Type.TERRAIN_LEFT, hero, "agility", "Cave");
         } else if (space instanceof KoulouSpace) {
-            hero.increaseStrength(-10);  // Remove strength boost from Koulou space
-            System.out.println(hero.getName() + " loses a strength boost from the Koulou.");
+            events.publish(GameEvent.Type.TERRAIN_LEFT, hero, "strength", "Koulou");
         }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,87 @@
+/**
+ * Hashed timing wheel for status effects measured in rounds. An effect due in d rounds goes into slot
+ * (now + d) mod slots, so scheduling and cancelling are O(1) and advancing a round only visits the one
+ * slot that comes due. Effects further away than one turn of the wheel share a slot with nearer ones and
+ * are skipped until their own lap comes around.
+ */
+public class TimingWheel {
+    private final StatusEffect[] slots;
+    private final int mask;
+    private long tick;
+    private int size;
+
+    /**
+     * Creates a wheel.
+     * @param slotCount The number of slots, a power of two; durations up to this many rounds never share a lap
+     */
+    public TimingWheel(int slotCount) {
+        if (slotCount <= 0 || (slotCount & (slotCount - 1)) != 0) {
+            throw new IllegalArgumentException("Slot count must be a power of two: " + slotCount);
+        }
+        slots = new StatusEffect[slotCount];
+        mask = slotCount - 1;
+    }
+
+    /**
+     * Schedules an effect to come due after a number of rounds.
+     * @param effect An effect that is not currently scheduled
+     * @param rounds How many calls to advance until it is due, at least 1
+     */
+    void schedule(StatusEffect effect, int rounds) {
+        effect.due = tick + Math.max(rounds, 1);
+        int slot = (int) (effect.due & mask);
+        effect.prev = null;
+        effect.next = slots[slot];
+        if (slots[slot] != null) {
+            slots[slot].prev = effect;
+        }
+        slots[slot] = effect;
+        size++;
+    }
+
+    /**
+     * Removes a scheduled effect before it comes due.
+     * @param effect The effect to remove
+     */
+    void cancel(StatusEffect effect) {
+        if (effect.prev != null) {
+            effect.prev.next = effect.next;
+        } else {
+            slots[(int) (effect.due & mask)] = effect.next;
+        }
+        if (effect.next != null) {
+            effect.next.prev = effect.prev;
+        }
+        effect.prev = null;
+        effect.next = null;
+        size--;
+    }
+
+    /**
+     * Moves the wheel on by one round and takes out every effect that is now due.
+     * @return The due effects chained through their next field, or null if none are due
+     */
+    StatusEffect advance() {
+        tick++;
+        StatusEffect due = null;
+        StatusEffect effect = slots[(int) (tick & mask)];
+        while (effect != null) {
+            StatusEffect following = effect.next;
+            if (effect.due == tick) {
+                cancel(effect);
+                effect.next = due;
+                due = effect;
+            }
+            effect = following;
+        }
+        return due;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int size() {
+        return size;
+    }
+}
@@ -7,6 +7,12 @@ import java.util.List;
  * including hero and monster turns, action processing, and round management.
  */
 public class TurnManager {
+    private static final List<String> BATTLE_ACTIONS = Arrays.asList("Move", "Attack", "Cast Spell", "Use Potion", "Change Weapon/Armor", "Remove Obstacle", "Hint", "View Combat Log", "Check Status", "Skip Turn");
+    private static final List<String> EXPLORATION_ACTIONS = Arrays.asList("Move", "Use Potion", "Change Weapon/Armor", "Teleport", "Recall", "Shop", "Remove Obstacle", "Hint", "View Combat Log", "Check Status", "Skip Turn");
+
+    private static final int DEFAULT_HINT_BUDGET_MILLIS = 500;
+    private static final int REGEN_PERCENT = 10;
+
     private List<Hero> heroes;
     private List<Monster> monsters;
     private lovWorld world;
@@ -14,6 +20,15 @@ public class TurnManager {
     private boolean isGameOver;
     private int round;
     private int difficulty;
+    private HeroPolicy heroPolicy;
+    private MctsAdvisor hintAdvisor;
+    private final UnitStore store;
+    // Unit ids of the heroes and monsters, for the store's per-round sweeps.
+    // monsterIds is reused across waves and only the first monsterCount entries are valid.
+    private int[] heroIds;
+    private int[] monsterIds = new int[0];
+    private int monsterCount;
+    private final List<Monster> burnedOut = new ArrayList<>();  // Monsters killed by burns this round
     
     /**
      * Creates a new TurnManager with the specified game elements.
@@ -30,6 +45,25 @@ public class TurnManager {
         this.isGameOver = false;
         this.round = 1;
         this.difficulty = difficulty;
+        this.hintAdvisor = new MctsAdvisor(DEFAULT_HINT_BUDGET_MILLIS);
+        this.store = UnitStore.getInstance();
+        refreshUnitIds();
+    }
+    
+    /**
+     * Sets how long the Hint action may search before answering.
+     * @param budgetMillis The search budget in milliseconds
+     */
+    public void setHintBudget(int budgetMillis) {
+        this.hintAdvisor = new MctsAdvisor(budgetMillis);
+    }
+    
+    /**
+     * Hands control of the heroes to a bot policy instead of the console.
+     * @param heroPolicy The policy to drive the heroes with, or null for console input
+     */
+    public void setHeroPolicy(HeroPolicy heroPolicy) {
+        this.heroPolicy = heroPolicy;
     }
     
     /**
@@ -44,8 +78,9 @@ public class TurnManager {
             if (hero.isAlive()) {
                 executeHeroTurn(hero);
                 
-                // Check if the game ended during hero's turn
-                if (isGameOver) {
+                // Check if the game ended during hero's turn, e.g. by reaching the monsters' Nexus
+                if (isGameOver || checkWinCondition()) {
+                    isGameOver = true;
                     return true;
                 }
             }
@@ -63,12 +98,16 @@ public class TurnManager {
             }
         }
         
-        // Restore hero health and mana per turn
-        for (Hero hero : heroes) {
-            if (hero.isAlive()) {
-                hero.restorePerTurn();
-            }
+        // Expire timed effects and let burns tick; monsters that burn to death are defeated like any other kill
+        burnedOut.clear();
+        StatusEffects.getInstance().advanceRound(burnedOut);
+        for (Monster monster : burnedOut) {
+            System.out.println("\u001B[32m" + monster.getName() + " has burned to death!\u001B[0m");
+            world.distributeMonsterRewards(monster, heroes);
         }
+
+        // Restore hero health and mana per turn
+        store.regenerate(heroIds, heroIds.length, REGEN_PERCENT);
         
         // Respawn any dead heroes
         for (Hero hero : heroes) {
@@ -77,6 +116,11 @@ public class TurnManager {
             }
         }
         
+        // Clear out defeated monsters so later rounds only visit living ones
+        if (removeDefeatedMonsters()) {
+            world.updateBoard(heroes, monsters);
+        }
+        
         // Spawn new monsters based on difficulty
         if (shouldSpawnMonsters()) {
             spawnNewMonsters();
@@ -95,9 +139,12 @@ public class TurnManager {
         boolean inBattle = isHeroInBattle(hero);
         
         // Define actions based on mode
-        List<String> actions = inBattle
-                ? Arrays.asList("Move", "Attack", "Cast Spell", "Use Potion", "Change Weapon/Armor", "Remove Obstacle", "View Combat Log", "Check Status", "Skip Turn")
-                : Arrays.asList("Move", "Use Potion", "Change Weapon/Armor", "Teleport", "Recall", "Shop", "Remove Obstacle", "View Combat Log", "Check Status", "Skip Turn");
+        List<String> actions = inBattle ? BATTLE_ACTIONS : EXPLORATION_ACTIONS;
+        
+        if (heroPolicy != null) {
+            executeBotTurn(hero, actions);
+            return;
+        }
         
         // Display Available Actions
         System.out.println("Available actions for " + hero.getName() + " (" + (inBattle ? "Battle Mode" : "Exploration Mode") + "):");
@@ -122,6 +169,96 @@ public class TurnManager {
         }
     }
     
+    /**
+     * Executes a hero's turn using the hero policy instead of console input.
+     * @param hero The hero whose turn is being processed
+     * @param actions The actions available to the hero
+     */
+    private void executeBotTurn(Hero hero, List<String> actions) {
+        List<String> available = new ArrayList<>(actions);
+        if (!world.isInNexus(hero)) {
+            available.remove("Shop");
+        }
+        
+        String action = heroPolicy.chooseAction(hero, available, world.getMonstersInRange(hero, monsters));
+        if (action == null || !available.contains(action) || !processBotAction(hero, action)) {
+            System.out.println(hero.getName() + " skips their turn.");
+        }
+    }
+    
+    /**
+     * Processes an action chosen by the hero policy, asking the policy for every follow-up choice.
+     * @param hero The hero performing the action
+     * @param action The selected action
+     * @return true if the action was carried out, false otherwise
+     */
+    private boolean processBotAction(Hero hero, String action) {
+        Inventory inventory = hero.getInventory();
+        switch (action) {
+            case "Move":
+                String direction = heroPolicy.chooseDirection(hero, world.getValidDirections(hero), monsters);
+                if (direction != null && world.moveHero(hero, direction)) {
+                    world.updateBoard(heroes, monsters);
+                    return true;
+                }
+                return false;
+                
+            case "Attack": {
+                Monster target = heroPolicy.chooseTarget(hero, world.getMonstersInRange(hero, monsters));
+                if (target == null || !target.isAlive()) {
+                    return false;
+                }
+                hero.attack(target);
+                if (!target.isAlive()) {
+                    world.distributeMonsterRewards(target, heroes);
+                    world.updateBoard(heroes, monsters);
+                }
+                return true;
+            }
+                
+            case "Cast Spell": {
+                Monster target = heroPolicy.chooseTarget(hero, world.getMonstersInRange(hero, monsters));
+                if (target == null) {
+                    return false;
+                }
+                List<Spell> spells = new ArrayList<>(hero.getLearnedSpells());
+                spells.addAll(inventory.getSpells());
+                Spell spell = heroPolicy.chooseSpell(hero, spells, target);
+                if (spell == null || hero.getCurrentMana() < spell.getManaCost()) {
+                    return false;
+                }
+                if (world.castSpell(hero, spell, target, hero.getLearnedSpells().contains(spell))) {
+                    world.updateBoard(heroes, monsters);
+                }
+                return true;
+            }
+                
+            case "Use Potion": {
+                Potion potion = heroPolicy.choosePotion(hero, inventory.getPotions());
+                if (potion == null) {
+                    return false;
+                }
+                world.usePotion(hero, potion);
+                return true;
+            }
+                
+            case "Change Weapon/Armor":
+                return inventory.equipItem(heroPolicy.chooseEquipment(hero, inventory.getEquippableItems()));
+                
+            case "Shop":
+                new Market().autoShop(hero, heroPolicy);
+                return true;
+                
+            case "Skip Turn":
+                System.out.println(hero.getName() + " skips their turn.");
+                return true;
+                
+            default:
+                // Menu-only actions such as the combat log have no meaning for a bot
+                return false;
+        }
+    }
+    
     /**
      * Processes a hero's selected action.
      * @param hero The hero performing the action
@@ -249,6 +386,10 @@ public class TurnManager {
                 }
                 return false;
                 
+            case "Hint":
+                showHint(hero);
+                return false; // Asking for a hint does not use up the turn
+                
             case "View Combat Log":
                 CombatLogger.getInstance().displayCombatHistory();
                 return true;
@@ -267,6 +408,22 @@ public class TurnManager {
         }
     }
     
+    /**
+     * Runs a tree search from the current position and prints the recommended action for a hero.
+     * @param hero The hero asking for a hint
+     */
+    private void showHint(Hero hero) {
+        String[] monsterNames = new String[monsters.size()];
+        for (int i = 0; i < monsters.size(); i++) {
+            Monster monster = monsters.get(i);
+            monsterNames[i] = monster.getMonsterIdentifier() + " (" + monster.getName() + ")";
+        }
+        
+        System.out.println("Thinking...");
+        MctsAdvisor.Hint hint = hintAdvisor.recommend(snapshot(), heroes.indexOf(hero), monsterNames);
+        System.out.println("\u001B[36mHint for " + hero.getName() + ": " + hint + "\u001B[0m");
+    }
+    
     /**
      * Executes a turn for a specific monster.
      * @param monster The monster whose turn is being processed
@@ -276,12 +433,9 @@ public class TurnManager {
             return;
         }
         
-        // Check if there's a hero in attack range
-        List<Hero> heroesInRange = world.getHeroesInRange(monster, heroes);
-        if (!heroesInRange.isEmpty()) {
-            // Attack a random hero in range
-            Hero target = heroesInRange.get(new java.util.Random().nextInt(heroesInRange.size()));
-            world.monsterAttack(monster, heroes);
+        // Attack the hero chosen by the monster policy, if any hero is in range
+        Hero target = world.monsterAttack(monster, heroes);
+        if (target != null) {
             System.out.println("\nMonster " + monster.getMonsterIdentifier() + " attacks " + target.getHeroIdentifier() + "!");
         } else {
             // Move toward hero nexus if no targets in range
@@ -383,32 +537,11 @@ public class TurnManager {
      * @param inventory The inventory to display
      */
     private void displayInventorySummary(Inventory inventory) {
-        List<Item> items = inventory.getItems();
-        
-        // Count item types
-        int weaponCount = 0;
-        int armorCount = 0;
-        int potionCount = 0;
-        int spellCount = 0;
-        
-        for (Item item : items) {
-            if (item instanceof Weapon) {
-                weaponCount++;
-            } else if (item instanceof Armor) {
-                armorCount++;
-            } else if (item instanceof Potion) {
-                potionCount++;
-            } else if (item instanceof Spell) {
-                spellCount++;
-            }
-        }
-        
-        // Display counts
-        System.out.println("Weapons: " + weaponCount);
-        System.out.println("Armor pieces: " + armorCount);
-        System.out.println("Potions: " + potionCount);
-        System.out.println("Spells: " + spellCount);
-        System.out.println("Total items: " + items.size());
+        System.out.println("Weapons: " + inventory.getWeaponCount());
+        System.out.println("Armor pieces: " + inventory.getArmorCount());
+        System.out.println("Potions: " + inventory.getPotionCount());
+        System.out.println("Spells: " + inventory.getSpellCount());
+        System.out.println("Total items: " + inventory.getItemCount());
     }
     
     /**
@@ -421,21 +554,48 @@ public class TurnManager {
             return false;
         }
         
-        for (Monster monster : monsters) {
-            if (monster.isAlive()) {
-                int heroRow = hero.getHeroRow();
-                int heroCol = hero.getHeroCol();
-                int monsterRow = monster.getMonsterRow();
-                int monsterCol = monster.getMonsterCol();
-                
-                // If monster is within attack range (current or adjacent cell)
-                if (Math.abs(heroRow - monsterRow) <= 1 && Math.abs(heroCol - monsterCol) <= 1) {
-                    return true;
-                }
+        // A monster is within attack range if it is on the current or an adjacent cell
+        return store.anyWithin(hero.getHeroRow(), hero.getHeroCol(), monsterIds, monsterCount, 1);
+    }
+    
+    /**
+     * Rebuilds the unit id arrays after heroes or monsters have been added.
+     */
+    private void refreshUnitIds() {
+        heroIds = new int[heroes.size()];
+        for (int i = 0; i < heroIds.length; i++) {
+            heroIds[i] = heroes.get(i).getUnitId();
+        }
+        monsterCount = monsters.size();
+        if (monsterIds.length < monsterCount) {
+            monsterIds = new int[Math.max(monsterCount, monsterIds.length * 2)];
+        }
+        for (int i = 0; i < monsterCount; i++) {
+            monsterIds[i] = monsters.get(i).getUnitId();
+        }
+    }
+    
+    /**
+     * Removes defeated monsters from play and returns them to the MonsterPool. Each one is swapped with
+     * the last monster in the list, so removal is O(1) and the list never holds dead monsters for long.
+     * @return true if any monster was removed
+     */
+    private boolean removeDefeatedMonsters() {
+        boolean removed = false;
+        for (int i = monsterCount - 1; i >= 0; i--) {
+            if (!store.isAlive(monsterIds[i])) {
+                int last = monsterCount - 1;
+                Monster defeated = monsters.get(i);
+                monsters.set(i, monsters.get(last));
+                monsters.remove(last);
+                monsterIds[i] = monsterIds[last];
+                monsterCount--;
+                world.removeMonster(defeated);
+                MonsterPool.getInstance().release(defeated);
+                removed = true;
             }
         }
-        
-        return false;
+        return removed;
     }
     
     /**
@@ -481,26 +641,28 @@ public class TurnManager {
             // The grid can safely handle 3 monsters (each taking 2 spaces)
             int maxTotalMonsters = 3;
             
-            // Only add new monsters if there's room for them
-            int currentMonsterCount = monsters.size();
-            int monsterCapacity = maxTotalMonsters - currentMonsterCount;
-            
-            if (monsterCapacity > 0) {
-                // Only add up to the capacity
-                int monstersToAdd = Math.min(monsterCapacity, newMonsters.size());
-                for (int i = 0; i < monstersToAdd; i++) {
-                    monsters.add(newMonsters.get(i));
+            // Only add new monsters if there's room for them; defeated monsters have already been removed
+            int monstersAdded = 0;
+            for (Monster monster : newMonsters) {
+                if (monsters.size() < maxTotalMonsters && world.placeSpawnedMonster(monster, monsters)) {
+                    monsters.add(monster);
+                    monstersAdded++;
+                } else {
+                    MonsterPool.getInstance().release(monster);
                 }
+            }
+            
+            if (monstersAdded > 0) {
+                refreshUnitIds();
                 
-                System.out.println("\n\u001B[31m!!! " + monstersToAdd + " NEW MONSTERS HAVE SPAWNED AT THE MONSTER NEXUS !!!\u001B[0m");
+                System.out.println("\n\u001B[31m!!! " + monstersAdded + " NEW MONSTERS HAVE SPAWNED AT THE MONSTER NEXUS !!!\u001B[0m");
                 
                 // Set monster identifiers
                 for (int i = 0; i < monsters.size(); i++) {
                     monsters.get(i).setMonsterIdentifier("M" + (i + 1));
                 }
                 
-                // Update the board with new monsters
-                world.initializeHeroesAndMonsters(heroes, monsters);
+                // Update the board with the new monsters; everyone else stays where they are
                 world.updateBoard(heroes, monsters);
                 world.displayMap();
             } else {
@@ -517,6 +679,14 @@ public class TurnManager {
         return world.checkWinCondition(heroes, monsters);
     }
     
+    /**
+     * Captures the current game as a forkable state for what-if analysis.
+     * @return A snapshot of the heroes, monsters, board and round
+     */
+    public GameState snapshot() {
+        return GameState.capture(heroes, monsters, world.getGrid(), round);
+    }
+    
     /**
      * Gets the current round number.
      * @return The current round number
@@ -0,0 +1,247 @@
+import java.util.Arrays;
+
+/**
+ * Central struct-of-arrays storage for every hero and monster.
+ * Each unit owns one slot (its unit id) in a set of parallel primitive arrays; Hero and Monster
+ * objects are thin handles that read and write their slot. Keeping stats in flat arrays lets the
+ * per-round sweeps below run as simple indexed loops the JIT can unroll and vectorize.
+ *
+ * The store is a process-wide singleton and, like the rest of the game state, is not thread-safe.
+ */
+public class UnitStore {
+    private static final int INITIAL_CAPACITY = 16;
+    private static UnitStore instance;
+
+    // Parallel stat arrays, indexed by unit id. For heroes "current" values live in the
+    // plain arrays and base values in the base* arrays.
+    int[] health;
+    int[] maxHealth;
+    int[] mana;
+    int[] maxMana;
+    int[] strength;
+    int[] dexterity;
+    int[] agility;
+    int[] baseStrength;
+    int[] baseDexterity;
+    int[] baseAgility;
+    int[] damage;
+    int[] defense;
+    int[] dodge;
+    int[] level;
+    int[] row;
+    int[] col;
+    long[] aliveBits;
+    private long[] freeBits;  // Slots on the free list, so a slot cannot be released twice
+
+    private int capacity;
+    private int nextId;
+    private int[] freeIds;
+    private int freeCount;
+
+    private UnitStore() {
+        allocateArrays(INITIAL_CAPACITY);
+        freeIds = new int[INITIAL_CAPACITY];
+    }
+
+    /**
+     * Gets the singleton instance of UnitStore
+     * @return The UnitStore instance
+     */
+    public static UnitStore getInstance() {
+        if (instance == null) {
+            instance = new UnitStore();
+        }
+        return instance;
+    }
+
+    /**
+     * Reserves a slot for a new unit. Slots released earlier are reused first.
+     * @return The new unit id, with every stat zeroed
+     */
+    public int allocate() {
+        int id;
+        if (freeCount > 0) {
+            id = freeIds[--freeCount];
+            freeBits[id >>> 6] &= ~(1L << id);
+        } else {
+            if (nextId == capacity) {
+                allocateArrays(capacity * 2);
+            }
+            id = nextId++;
+        }
+        clear(id);
+        return id;
+    }
+
+    /**
+     * Returns a unit's slot to the store so a later unit can reuse it.
+     * @param id The unit id to release
+     * @throws IllegalArgumentException If the id was never allocated or has already been released
+     */
+    public void release(int id) {
+        if (id < 0 || id >= nextId || (freeBits[id >>> 6] & (1L << id)) != 0) {
+            throw new IllegalArgumentException("Unit " + id + " is not allocated");
+        }
+        freeBits[id >>> 6] |= 1L << id;
+        clear(id);
+        if (freeCount == freeIds.length) {
+            int[] grown = new int[freeIds.length * 2];
+            System.arraycopy(freeIds, 0, grown, 0, freeCount);
+            freeIds = grown;
+        }
+        freeIds[freeCount++] = id;
+    }
+
+    /**
+     * Sets a unit's current health and keeps its alive bit in sync.
+     * @param id The unit id
+     * @param value The new health
+     */
+    public void setHealth(int id, int value) {
+        health[id] = value;
+        if (value > 0) {
+            aliveBits[id >>> 6] |= 1L << id;
+        } else {
+            aliveBits[id >>> 6] &= ~(1L << id);
+        }
+    }
+
+    public boolean isAlive(int id) {
+        return (aliveBits[id >>> 6] & (1L << id)) != 0;
+    }
+
+    /**
+     * Counts how many of the given units are alive.
+     * @param ids Unit ids to check
+     * @param count Number of valid entries in ids
+     * @return The number of living units
+     */
+    public int countAlive(int[] ids, int count) {
+        int alive = 0;
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            alive += (int) ((aliveBits[id >>> 6] >>> id) & 1L);
+        }
+        return alive;
+    }
+
+    /**
+     * Restores a percentage of maximum health and mana to every living unit in a group,
+     * capped at the maximum. This is the per-round regeneration sweep.
+     * @param ids Unit ids to regenerate
+     * @param count Number of valid entries in ids
+     * @param percent Percentage of the maximum to restore
+     */
+    public void regenerate(int[] ids, int count, int percent) {
+        int[] health = this.health;
+        int[] maxHealth = this.maxHealth;
+        int[] mana = this.mana;
+        int[] maxMana = this.maxMana;
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            if (health[id] > 0) {
+                health[id] = Math.min(health[id] + maxHealth[id] * percent / 100, maxHealth[id]);
+                mana[id] = Math.min(mana[id] + maxMana[id] * percent / 100, maxMana[id]);
+            }
+        }
+    }
+
+    /**
+     * Checks whether any living unit in a group stands within a square range of a cell.
+     * @param centerRow Row of the cell to measure from
+     * @param centerCol Column of the cell to measure from
+     * @param ids Unit ids to scan
+     * @param count Number of valid entries in ids
+     * @param range Maximum row and column distance (1 covers the eight surrounding cells)
+     * @return true if at least one living unit is in range
+     */
+    public boolean anyWithin(int centerRow, int centerCol, int[] ids, int count, int range) {
+        int[] row = this.row;
+        int[] col = this.col;
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            if (Math.abs(row[id] - centerRow) <= range && Math.abs(col[id] - centerCol) <= range
+                    && ((aliveBits[id >>> 6] >>> id) & 1L) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Collects the living units in a group that stand within a square range of a cell.
+     * @param centerRow Row of the cell to measure from
+     * @param centerCol Column of the cell to measure from
+     * @param ids Unit ids to scan
+     * @param count Number of valid entries in ids
+     * @param range Maximum row and column distance
+     * @param out Buffer receiving the matching unit ids; must hold count entries
+     * @return The number of ids written to out
+     */
+    public int collectWithin(int centerRow, int centerCol, int[] ids, int count, int range, int[] out) {
+        int found = 0;
+        for (int i = 0; i < count; i++) {
+            int id = ids[i];
+            if (Math.abs(row[id] - centerRow) <= range && Math.abs(col[id] - centerCol) <= range
+                    && ((aliveBits[id >>> 6] >>> id) & 1L) != 0) {
+                out[found++] = id;
+            }
+        }
+        return found;
+    }
+
+    private void clear(int id) {
+        health[id] = 0;
+        maxHealth[id] = 0;
+        mana[id] = 0;
+        maxMana[id] = 0;
+        strength[id] = 0;
+        dexterity[id] = 0;
+        agility[id] = 0;
+        baseStrength[id] = 0;
+        baseDexterity[id] = 0;
+        baseAgility[id] = 0;
+        damage[id] = 0;
+        defense[id] = 0;
+        dodge[id] = 0;
+        level[id] = 0;
+        row[id] = 0;
+        col[id] = 0;
+        aliveBits[id >>> 6] &= ~(1L << id);
+    }
+
+    private void allocateArrays(int newCapacity) {
+        health = grow(health, newCapacity);
+        maxHealth = grow(maxHealth, newCapacity);
+        mana = grow(mana, newCapacity);
+        maxMana = grow(maxMana, newCapacity);
+        strength = grow(strength, newCapacity);
+        dexterity = grow(dexterity, newCapacity);
+        agility = grow(agility, newCapacity);
+        baseStrength = grow(baseStrength, newCapacity);
+        baseDexterity = grow(baseDexterity, newCapacity);
+        baseAgility = grow(baseAgility, newCapacity);
+        damage = grow(damage, newCapacity);
+        defense = grow(defense, newCapacity);
+        dodge = grow(dodge, newCapacity);
+        level = grow(level, newCapacity);
+        row = grow(row, newCapacity);
+        col = grow(col, newCapacity);
+
+        long[] bits = new long[(newCapacity + 63) >>> 6];
+        if (aliveBits != null) {
+            System.arraycopy(aliveBits, 0, bits, 0, aliveBits.length);
+        }
+        aliveBits = bits;
+        freeBits = freeBits != null ? Arrays.copyOf(freeBits, bits.length) : new long[bits.length];
+        capacity = newCapacity;
+    }
+
+    private static int[] grow(int[] array, int newCapacity) {
+        int[] grown = new int[newCapacity];
+        if (array != null) {
+            System.arraycopy(array, 0, grown, 0, array.length);
+        }
+        return grown;
+    }
+}
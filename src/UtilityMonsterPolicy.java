@@ -0,0 +1,61 @@
+/**
+ * Default monster policy that scores every candidate hero with a simple utility function.
+ * Heroes the monster can finish off this turn are preferred, then heroes that take the most
+ * damage after armor, then the weakest and closest heroes.
+ */
+public class UtilityMonsterPolicy implements MonsterPolicy {
+    private static final double KILL_BONUS = 1000.0;
+    private static final double DAMAGE_WEIGHT = 1.0;
+    private static final double HEALTH_WEIGHT = 0.5;
+    private static final double DISTANCE_WEIGHT = 10.0;
+
+    /**
+     * Picks the candidate with the highest utility score.
+     * @param monster The monster taking its turn
+     * @param heroHealth Current health of each candidate hero
+     * @param heroArmor Damage reduction of the armor each candidate has equipped
+     * @param heroDistance Manhattan distance between the monster and each candidate
+     * @param count Number of candidates in the arrays
+     * @return The index of the best candidate, or NO_TARGET if there are no candidates
+     */
+    @Override
+    public int chooseTarget(Monster monster, int[] heroHealth, int[] heroArmor, int[] heroDistance, int count) {
+        // Same formula as Monster.attack, computed once for all candidates
+        double rawDamage = monster.getLevel() * monster.getBaseDamage() * 0.1;
+
+        int best = NO_TARGET;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            int health = heroHealth[i];
+            if (health <= 0) {
+                continue;
+            }
+
+            double score = score(rawDamage, health, heroArmor[i], heroDistance[i]);
+            if (score > bestScore) {
+                bestScore = score;
+                best = i;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Scores one candidate hero. Shared with the search simulation so it targets the way the game does.
+     * @param rawDamage The monster's damage before armor
+     * @param health The hero's current health
+     * @param armor The damage reduction of the hero's armor
+     * @param distance The Manhattan distance between the monster and the hero
+     * @return The utility of attacking the hero; higher is better
+     */
+    static double score(double rawDamage, int health, int armor, int distance) {
+        double damage = Math.max(rawDamage - armor, 0);
+        double score = Math.min(damage, health) * DAMAGE_WEIGHT
+                - health * HEALTH_WEIGHT
+                - distance * DISTANCE_WEIGHT;
+        if (damage >= health) {
+            score += KILL_BONUS;
+        }
+        return score;
+    }
+}
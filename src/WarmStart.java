@@ -0,0 +1,297 @@
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+/**
+ * Launches the game with an application class-data-sharing (AppCDS) archive, so a session does not pay
+ * full class loading before the first map. The archive is recorded from a headless warm-up pass, which
+ * only runs while recording; a launch goes straight to the game.
+ *
+ * Modes:
+ * <pre>
+ * record        package the game classes into a jar and record an archive from a training run
+ * play [args]   launch the game from the archive (recording it first if it is missing or out of date)
+ * report [runs] compare cold and warm time-to-first-map for Legends of Valor
+ * </pre>
+ * The archive needs a JDK 13 or newer runtime. CDS only archives classes loaded from jars,
+ * which is why the classes are repackaged first, and again whenever a class file is newer than the jar.
+ * Everything is kept under .warmstart/.
+ */
+public class WarmStart {
+    private static final String CACHE_DIR = ".warmstart";
+    private static final File JAR = new File(CACHE_DIR, "lov.jar");
+    private static final File ARCHIVE = new File(CACHE_DIR, "lov.jsa");
+    private static final String FIRST_MAP_MARKER = "[first map ready]";
+    private static final String[] HERO_CLASSES = {"Warrior", "Sorcerer", "Paladin"};
+    private static final int TRAINING_GAMES = 3;
+    private static final int TRAINING_ROUNDS = 20;
+    private static final long TIMEOUT_MILLIS = 60_000;
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String mode = args.length > 0 ? args[0] : "play";
+        String[] rest = Arrays.copyOfRange(args, Math.min(1, args.length), args.length);
+
+        switch (mode) {
+            case "record":
+                record();
+                break;
+            case "play":
+                if (needsRecording() && !record()) {
+                    System.out.println("Starting without an archive.");
+                }
+                System.exit(launch(true, "run", rest).inheritIO().start().waitFor());
+                break;
+            case "report":
+                report(rest.length > 0 ? Integer.parseInt(rest[0]) : 5);
+                break;
+            // Modes below run inside the child JVMs started by the modes above
+            case "train":
+                train();
+                break;
+            case "run":
+                Main.main(rest);
+                break;
+            case "firstmap":
+                showFirstMap();
+                break;
+            default:
+                System.out.println("Usage: java WarmStart [record|play|report] [args]");
+        }
+    }
+
+    /**
+     * Checks whether the archive has to be recorded again: it is missing, or the classes on the class path
+     * have been recompiled since the jar it was recorded from was packaged.
+     * @return true if the archive is missing or stale
+     */
+    private static boolean needsRecording() {
+        if (!ARCHIVE.isFile()) {
+            return true;
+        }
+        long packaged = JAR.isFile() ? JAR.lastModified() : 0;
+        for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+            File root = new File(entry);
+            if (root.isDirectory() && newestClass(root) > packaged) {
+                System.out.println("Classes changed since " + JAR.getPath() + " was packaged; recording again.");
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Gets the last-modified time of the newest class file under a directory, or 0 if there is none
+    private static long newestClass(File dir) {
+        long newest = 0;
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return newest;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                newest = Math.max(newest, newestClass(child));
+            } else if (child.getName().endsWith(".class")) {
+                newest = Math.max(newest, child.lastModified());
+            }
+        }
+        return newest;
+    }
+
+    /**
+     * Packages the game classes and records the archive from a headless training run.
+     * @return true if the archive was recorded
+     */
+    private static boolean record() throws IOException, InterruptedException {
+        packageClasses();
+        ARCHIVE.delete();
+
+        List<String> command = javaCommand();
+        command.add(1, "-XX:ArchiveClassesAtExit=" + ARCHIVE.getPath());
+        command.add("train");
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String output = readAll(process.getInputStream());
+        process.waitFor();
+
+        if (!ARCHIVE.isFile()) {
+            System.out.println("Could not record a class-data archive (needs JDK 13 or newer):");
+            System.out.println(output.trim());
+            return false;
+        }
+        System.out.println("Recorded " + ARCHIVE.getPath() + " (" + ARCHIVE.length() / 1024 + " KB)");
+        return true;
+    }
+
+    /**
+     * Plays a few short bot games and builds a market with console output discarded, so the classes
+     * and hot paths of a real session are loaded and compiled. Units and log entries are released afterwards.
+     */
+    static void train() {
+        PrintStream console = System.out;
+        System.setOut(new PrintStream(new OutputStream() {
+            @Override
+            public void write(int b) {
+                // Discard training output
+            }
+        }));
+        try {
+            HeroPolicy policy = new GreedyHeroPolicy();
+            for (int i = 0; i < TRAINING_GAMES; i++) {
+                SelfPlay.playGame(policy, 2, TRAINING_ROUNDS);
+            }
+
+            Hero shopper = new Hero("Trainee", "Warrior");
+            new Market().autoShop(shopper, policy);
+            shopper.release();
+
+            lovWorld world = new lovWorld(8, 8);
+            world.displayMap();
+        } finally {
+            System.setOut(console);
+            CombatLogger.getInstance().clearHistory();
+        }
+    }
+
+    /**
+     * Sets up a Legends of Valor board and draws it, then prints a marker the report waits for.
+     */
+    private static void showFirstMap() {
+        List<Hero> heroes = new ArrayList<>();
+        for (int i = 0; i < HERO_CLASSES.length; i++) {
+            heroes.add(new Hero("Hero" + (i + 1), HERO_CLASSES[i]));
+        }
+        List<Monster> monsters = new GameSetup().spawnMonsters(1);
+        lovWorld world = new lovWorld(8, 8);
+        world.initializeHeroesAndMonsters(heroes, monsters);
+        world.updateBoard(heroes, monsters);
+        world.displayMap();
+        System.out.println(FIRST_MAP_MARKER);
+    }
+
+    /**
+     * Launches fresh JVMs with and without the archive and compares their time to the first map.
+     * @param runs How many launches to time for each configuration
+     */
+    private static void report(int runs) throws IOException, InterruptedException {
+        if (needsRecording() && !record()) {
+            return;
+        }
+        long[] cold = new long[runs];
+        long[] warm = new long[runs];
+        for (int i = 0; i < runs; i++) {
+            cold[i] = timeFirstMap(false);
+            warm[i] = timeFirstMap(true);
+        }
+        Arrays.sort(cold);
+        Arrays.sort(warm);
+        long coldMedian = cold[runs / 2];
+        long warmMedian = warm[runs / 2];
+
+        System.out.println("=== WARM START REPORT (" + runs + " runs each) ===");
+        System.out.println("Cold (no archive):   median " + coldMedian + " ms, min " + cold[0] + " ms");
+        System.out.println("Warm (AppCDS):       median " + warmMedian + " ms, min " + warm[0] + " ms");
+        System.out.printf("Time-to-first-map saved: %d ms (%.0f%%)%n", coldMedian - warmMedian,
+                100.0 * (coldMedian - warmMedian) / Math.max(coldMedian, 1));
+    }
+
+    private static long timeFirstMap(boolean useArchive) throws IOException, InterruptedException {
+        long start = System.nanoTime();
+        Process process = launch(useArchive, "firstmap").redirectErrorStream(true).start();
+        // Blocking reads cannot notice the deadline, so the watchdog kills a hung game to end them
+        ProcessWatchdog watchdog = ProcessWatchdog.start(process, start + TIMEOUT_MILLIS * 1_000_000L);
+        try {
+            InputStream output = process.getInputStream();
+            StringBuilder seen = new StringBuilder();
+            byte[] buffer = new byte[4096];
+            while (seen.indexOf(FIRST_MAP_MARKER) < 0) {
+                int read = output.read(buffer);
+                if (read < 0) {
+                    if (watchdog.hasFired()) {
+                        throw new IOException("Timed out after " + TIMEOUT_MILLIS + " ms waiting for the first map:\n"
+                                + seen);
+                    }
+                    throw new IOException("Game exited before drawing the first map:\n" + seen);
+                }
+                seen.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+            }
+            return (System.nanoTime() - start) / 1_000_000;
+        } finally {
+            process.destroy();
+            process.waitFor();
+        }
+    }
+
+    private static ProcessBuilder launch(boolean useArchive, String mode, String... args) {
+        List<String> command = javaCommand();
+        if (useArchive && ARCHIVE.isFile()) {
+            command.add(1, "-XX:SharedArchiveFile=" + ARCHIVE.getPath());
+        }
+        command.add(mode);
+        command.addAll(Arrays.asList(args));
+        return new ProcessBuilder(command);
+    }
+
+    private static List<String> javaCommand() {
+        String classPath = JAR.isFile() ? JAR.getPath() : System.getProperty("java.class.path");
+        return new ArrayList<>(Arrays.asList(
+                System.getProperty("java.home") + File.separator + "bin" + File.separator + "java",
+                "-cp", classPath, "WarmStart"));
+    }
+
+    // Copies every class file from the directories on the class path into the launcher jar.
+    // When already running from jars there is nothing to repackage and the existing jar is kept.
+    private static void packageClasses() throws IOException {
+        new File(CACHE_DIR).mkdirs();
+        File temp = new File(CACHE_DIR, "lov.jar.tmp");
+        boolean packaged = false;
+        try (JarOutputStream jar = new JarOutputStream(new FileOutputStream(temp))) {
+            for (String entry : System.getProperty("java.class.path").split(File.pathSeparator)) {
+                File root = new File(entry);
+                if (root.isDirectory()) {
+                    addClasses(jar, root, "");
+                    packaged = true;
+                }
+            }
+        }
+        if (packaged) {
+            Files.move(temp.toPath(), JAR.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        } else {
+            temp.delete();
+        }
+    }
+
+    private static void addClasses(JarOutputStream jar, File dir, String prefix) throws IOException {
+        File[] children = dir.listFiles();
+        if (children == null) {
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                addClasses(jar, child, prefix + child.getName() + "/");
+            } else if (child.getName().endsWith(".class")) {
+                jar.putNextEntry(new JarEntry(prefix + child.getName()));
+                Files.copy(child.toPath(), jar);
+                jar.closeEntry();
+            }
+        }
+    }
+
+    private static String readAll(InputStream input) throws IOException {
+        StringBuilder text = new StringBuilder();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = input.read(buffer)) >= 0) {
+            text.append(new String(buffer, 0, read, StandardCharsets.UTF_8));
+        }
+        return text.toString();
+    }
+}
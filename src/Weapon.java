@@ -5,17 +5,22 @@
  *  damage, required hands.
  */
 public class Weapon extends Item implements Buyable {
-    private int damage;
-    private int requiredHands;
 
     public Weapon(String name, int cost, int levelRequirement, int damage, int requiredHands) {
-        super(name, cost, levelRequirement, "Weapon");
-        this.damage = damage;
-        this.requiredHands = requiredHands;
+        this(ItemDefinition.weapon(name, cost, levelRequirement, damage, requiredHands));
+    }
+
+    public Weapon(ItemDefinition definition) {
+        super(definition);
+    }
+
+    @Override
+    public Weapon newInstance() {
+        return new Weapon(definition);
     }
 
     //Getters
     //Double handed weapon deals more damage
-    public int getDamage() { return requiredHands == 2 ? (int) Math.ceil(damage * 1.5) : damage; }
-    public int getRequiredHands() { return requiredHands; }
+    public int getDamage() { return getRequiredHands() == 2 ? (int) Math.ceil(definition.getDamage() * 1.5) : definition.getDamage(); }
+    public int getRequiredHands() { return definition.getRequiredHands(); }
 }
\ No newline at end of file
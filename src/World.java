@@ -14,13 +14,42 @@ public class World {
     protected int heroCol;
 
     public World(int row, int col) {
+        this(row, col, new Space[row][col]);
+        initializeSpaces();
+        placeHeroes();
+    }
+
+    // For worlds that supply their spaces some other way; the grid may be null if getSpace is overridden
+    protected World(int row, int col, Space[][] grid) {
         this.row = row;
         this.col = col;
         this.size = row * col;
-        this.grid = new Space[row][col];
-        initializeSpaces();
-        placeHeroes();
+        this.grid = grid;
     }
+
+    /**
+     * Gets the space at a position. The position must be inside the world.
+     * @param row The row
+     * @param col The column
+     * @return The space
+     */
+    protected Space getSpace(int row, int col) {
+        return grid[row][col];
+    }
+
+    /**
+     * Checks whether a position lies inside the world.
+     * @param row The row
+     * @param col The column
+     * @return true if the position is inside
+     */
+    protected boolean isInside(int row, int col) {
+        return row >= 0 && row < this.row && col >= 0 && col < this.col;
+    }
+
+    // The top-left corner of the part of the world displayMap draws
+    protected int getViewRow() { return 0; }
+    protected int getViewCol() { return 0; }
     //Randomize space distribution
     private void initializeSpaces() {
         Random random = new Random();
@@ -60,13 +89,15 @@ public class World {
         // Print the top border of the map grid
         System.out.println("    |  " + topBorder);
 
+        int viewRow = getViewRow();
+        int viewCol = getViewCol();
         for (int i = 0; i < row; i++) {
             System.out.print("    |  " + doubleLine); // Left border
             for (int j = 0; j < col; j++) {
-                if (i == heroRow && j == heroCol) {
+                if (viewRow + i == heroRow && viewCol + j == heroCol) {
                     System.out.print(" ⚔ " + doubleLine);  // Hero's current position
                 } else {
-                    System.out.print(" " + grid[i][j].getSymbol() + " " + doubleLine); // Display symbol
+                    System.out.print(" " + getSpace(viewRow + i, viewCol + j).getSymbol() + " " + doubleLine); // Display symbol
                 }
             }
             System.out.print("  |");
@@ -142,17 +173,17 @@ public class World {
     }
 
     protected boolean isValidMoveNoPrint(int row, int col) {
-        return row >= 0 && row < this.row && col >= 0 && col < this.col && !(grid[row][col] instanceof InaccessibleSpace);
+        return isInside(row, col) && !(getSpace(row, col) instanceof InaccessibleSpace);
     }
 
     protected boolean isValidMove(int row, int col) {
         // Check if the target row and col are within bounds
-        if (row < 0 || row >= this.row || col < 0 || col >= this.col) {
+        if (!isInside(row, col)) {
            System.out.println("You have reached the edge of the world...(Out of bound)");
             return false;
         }
         // Check if the target cell is an inaccessible space
-        else if (grid[row][col] instanceof InaccessibleSpace) {
+        else if (getSpace(row, col) instanceof InaccessibleSpace) {
             System.out.println("That area is infested by deadly poisonous gas. Best not go forward...(InaccessibleSpace)");
             return false;
         }
@@ -161,16 +192,16 @@ public class World {
     }
 
     public boolean isInCommonSpace() {
-        return grid[heroRow][heroCol] instanceof CommonSpace;
+        return getSpace(heroRow, heroCol) instanceof CommonSpace;
     }
 
     public boolean isInMarketSpace() {
-        return grid[heroRow][heroCol] instanceof Market;
+        return getSpace(heroRow, heroCol) instanceof Market;
     }
 
     public Market getMarket() {
         if (isInMarketSpace()) {
-            return (Market) grid[heroRow][heroCol];
+            return (Market) getSpace(heroRow, heroCol);
         } else {
             return null;
         }
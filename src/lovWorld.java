@@ -1,7 +1,6 @@
 
 import java.util.List;
 
-import java.util.stream.Collectors;
 
 /**
  * Implementation of the World class for Legends of Valor game.
@@ -20,6 +19,7 @@ public class lovWorld extends World {
     private MovementSystem movementSystem;
     private TerrainEffectHandler terrainEffectHandler;
     private CombatSystem combatSystem;
+    private MonsterOccupancy monsterOccupancy;
 
     /**
      * Creates a new lovWorld with the specified dimensions.
@@ -31,10 +31,13 @@ public class lovWorld extends World {
         
         // Initialize component classes
         this.gridManager = new GridManager(row, col);
+        NexusTracker nexusTracker = new NexusTracker(gridManager);
+        this.monsterOccupancy = new MonsterOccupancy(gridManager);
         this.terrainEffectHandler = new TerrainEffectHandler();
-        this.characterPositioner = new CharacterPositioner(gridManager);
-        this.movementSystem = new MovementSystem(gridManager, characterPositioner, terrainEffectHandler);
-        this.combatSystem = new CombatSystem(gridManager);
+        this.characterPositioner = new CharacterPositioner(gridManager, nexusTracker, monsterOccupancy);
+        this.movementSystem = new MovementSystem(gridManager, characterPositioner, terrainEffectHandler, nexusTracker,
+                monsterOccupancy);
+        this.combatSystem = new CombatSystem(gridManager, nexusTracker);
         
         // Initialize the grid spaces
         gridManager.initializeSpaces();
@@ -116,6 +119,14 @@ public class lovWorld extends World {
         }
     }
 
+    /**
+     * Returns the current game board.
+     * @return The 2D array of spaces
+     */
+    public Space[][] getGrid() {
+        return gridManager.getGrid();
+    }
+
     /**
      * Initializes heroes and monsters on the game board.
      * @param heroes List of heroes to place
@@ -135,6 +146,18 @@ public class lovWorld extends World {
         this.grid = gridManager.getGrid();
     }
 
+    /**
+     * Places a newly spawned monster at a free lane of the monster nexus without moving anyone else.
+     * @param monster The monster to place
+     * @param monsters The monsters already in play
+     * @return true if the monster was placed
+     */
+    public boolean placeSpawnedMonster(Monster monster, List<Monster> monsters) {
+        boolean placed = characterPositioner.placeSpawnedMonster(monster, monsters);
+        this.grid = gridManager.getGrid();
+        return placed;
+    }
+
     /**
      * Sets the location for a hero on the grid.
      * @param hero The hero to position
@@ -178,14 +201,24 @@ public class lovWorld extends World {
         return spellSystem.castSpell(hero);
     }
 
+    /**
+     * Casts a chosen spell on a chosen monster without prompting.
+     * @param hero The hero casting the spell
+     * @param spell The spell to cast
+     * @param target The monster to hit
+     * @param isLearnedSpell Whether the spell is a learned spell rather than a one-time inventory spell
+     * @return true if a monster was defeated by the spell, false otherwise
+     */
+    public boolean castSpell(Hero hero, Spell spell, Monster target, boolean isLearnedSpell) {
+        return spellSystem.castSpell(hero, spell, target, isLearnedSpell);
+    }
+
     /**
      * Allows a hero to use a potion from their inventory.
      * @param hero The hero using the potion
      */
     public void usePotion(Hero hero) {
-        List<Item> potions = hero.getInventory().getItems().stream()
-                .filter(item -> item instanceof Potion)
-                .collect(Collectors.toList());
+        List<Potion> potions = hero.getInventory().getPotions();
 
         if (potions.isEmpty()) {
             System.out.println("No potions available in inventory.");
@@ -194,12 +227,12 @@ public class lovWorld extends World {
 
         System.out.println("Select a potion to use:");
         for (int i = 0; i < potions.size(); i++) {
-            System.out.println((i + 1) + ". " + potions.get(i).getName());
+            System.out.println((i + 1) + ". " + potions.get(i).getName() + " x" + hero.getInventory().getStackCount(potions.get(i).getName()));
         }
 
         int choice = InputHandler.getInstance().getIntInput("Enter the index of the potion you'd like to use: ");
         if (choice > 0 && choice <= potions.size()) {
-            Potion selectedPotion = (Potion) potions.get(choice - 1);
+            Potion selectedPotion = potions.get(choice - 1);
             selectedPotion.use(hero);
             System.out.println(hero.getName() + " used " + selectedPotion.getName() + ".");
         } else {
@@ -207,6 +240,25 @@ public class lovWorld extends World {
         }
     }
 
+    /**
+     * Uses a chosen potion without prompting.
+     * @param hero The hero using the potion
+     * @param potion The potion to drink
+     */
+    public void usePotion(Hero hero, Potion potion) {
+        potion.use(hero);
+        System.out.println(hero.getName() + " used " + potion.getName() + ".");
+    }
+
+    /**
+     * Lists the directions a hero can currently move in.
+     * @param hero The hero to check
+     * @return The valid directions among w, a, s and d
+     */
+    public List<String> getValidDirections(Hero hero) {
+        return movementSystem.getValidDirections(hero);
+    }
+
     /**
      * Moves a hero in the specified direction.
      * @param hero The hero to move
@@ -322,15 +374,23 @@ public class lovWorld extends World {
     }
     
     /**
-     * Executes an attack from a monster to heroes in range.
+     * Executes an attack from a monster on the hero chosen by the monster policy.
      * @param monster The attacking monster
      * @param heroes List of potential hero targets
-     * @return true if attack was successful, false otherwise
+     * @return The hero that was attacked, or null if no hero was in range
      */
-    public boolean monsterAttack(Monster monster, List<Hero> heroes) {
+    public Hero monsterAttack(Monster monster, List<Hero> heroes) {
         return combatSystem.monsterAttack(monster, heroes);
     }
     
+    /**
+     * Replaces the policy monsters use to pick their targets.
+     * @param monsterPolicy The policy to use
+     */
+    public void setMonsterPolicy(MonsterPolicy monsterPolicy) {
+        combatSystem.setMonsterPolicy(monsterPolicy);
+    }
+    
     /**
      * Gets all heroes within attack range of a monster.
      * @param monster The monster to check from
@@ -351,6 +411,22 @@ public class lovWorld extends World {
         this.grid = gridManager.getGrid();
     }
     
+    /**
+     * Gets the index of which monsters stand on which cell, used to resolve area spells.
+     * @return The monster occupancy index
+     */
+    public MonsterOccupancy getMonsterOccupancy() {
+        return monsterOccupancy;
+    }
+
+    /**
+     * Forgets a monster that has been taken off the board, before it goes back to the pool.
+     * @param monster The removed monster
+     */
+    public void removeMonster(Monster monster) {
+        monsterOccupancy.remove(monster);
+    }
+
     /**
      * Distributes rewards to heroes when a monster is defeated.
      * @param monster The defeated monster
@@ -406,6 +482,11 @@ class NexusSpace extends Space {
     public String getSymbol() {
         return type.equals("Hero Nexus") ? "HN" : "MN";
     }
+
+    @Override
+    public byte getTerrainCode() {
+        return type.equals("Hero Nexus") ? GameState.HERO_NEXUS : GameState.MONSTER_NEXUS;
+    }
 }
 
 class BushSpace extends Space {
@@ -413,6 +494,11 @@ class BushSpace extends Space {
     public String getSymbol() {
         return "B";
     }
+
+    @Override
+    public byte getTerrainCode() {
+        return GameState.BUSH;
+    }
 }
 
 class CaveSpace extends Space {
@@ -420,6 +506,11 @@ class CaveSpace extends Space {
     public String getSymbol() {
         return "C";
     }
+
+    @Override
+    public byte getTerrainCode() {
+        return GameState.CAVE;
+    }
 }
 
 class KoulouSpace extends Space {
@@ -427,6 +518,11 @@ class KoulouSpace extends Space {
     public String getSymbol() {
         return "K";
     }
+
+    @Override
+    public byte getTerrainCode() {
+        return GameState.KOULOU;
+    }
 }
 
 class PlainSpace extends Space {